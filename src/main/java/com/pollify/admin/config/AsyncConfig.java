@@ -0,0 +1,98 @@
+package com.pollify.admin.config;
+
+import com.pollify.admin.multitenancy.TenantContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Bounded executors for work handed off from request threads
+ */
+@Configuration
+public class AsyncConfig {
+
+    @Value("${pollify.results.broadcast.threads:4}")
+    private int broadcastThreads;
+
+    @Value("${pollify.results.broadcast.queue-capacity:1000}")
+    private int broadcastQueueCapacity;
+
+    @Value("${pollify.results.sse.threads:8}")
+    private int sseThreads;
+
+    @Value("${pollify.results.sse.max-subscribers:20000}")
+    private int sseMaxSubscribers;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Value("${pollify.security.password.threads:0}")
+    private int hashingThreads;
+
+    @Value("${pollify.security.password.queue-capacity:200}")
+    private int hashingQueueCapacity;
+
+    /**
+     * Runs tasks with the tenant of the thread that submitted them. Each executor below sets it
+     * explicitly: defining our own ThreadPoolTaskExecutor beans makes Spring Boot back off from
+     * its applicationTaskExecutor, so no auto-configured executor would pick it up.
+     */
+    @Bean
+    public TaskDecorator tenantTaskDecorator() {
+        return TenantContext::wrap;
+    }
+
+    /**
+     * Builds and sends live results snapshots. A full queue rejects the task and the
+     * broadcaster keeps the election dirty for the next tick.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor resultsBroadcastExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(broadcastThreads);
+        executor.setMaxPoolSize(broadcastThreads);
+        executor.setQueueCapacity(broadcastQueueCapacity);
+        executor.setThreadNamePrefix("results-broadcast-");
+        executor.setTaskDecorator(tenantTaskDecorator());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+
+    /**
+     * Writes queued SSE frames to subscribers, at most one task per subscriber at a time, so the
+     * queue never holds more than max-subscribers tasks. A slow client only blocks its own writer.
+     * On virtual threads every writer gets its own thread.
+     */
+    @Bean
+    public TaskExecutor resultsSseExecutor() {
+        if (virtualThreads) {
+            return new VirtualThreadTaskExecutor("results-sse-");
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(sseThreads);
+        executor.setMaxPoolSize(sseThreads);
+        executor.setQueueCapacity(sseMaxSubscribers);
+        executor.setThreadNamePrefix("results-sse-");
+        return executor;
+    }
+
+    /**
+     * Password hashing and verification (PasswordHashingService). Sized to the CPU budget
+     * for BCrypt, 0 meaning one thread per core; a full queue sheds the request.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor passwordHashingExecutor() {
+        int threads = hashingThreads > 0 ? hashingThreads : Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(hashingQueueCapacity);
+        executor.setThreadNamePrefix("password-hashing-");
+        return executor;
+    }
+}
@@ -0,0 +1,12 @@
+package com.pollify.admin.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables @Scheduled background jobs (vote reconciliation, flushers)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
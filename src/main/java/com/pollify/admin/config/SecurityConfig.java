@@ -2,16 +2,21 @@ package com.pollify.admin.config;
 
 import com.pollify.admin.security.JwtAuthenticationFilter;
 import com.pollify.admin.security.TenantResolutionFilter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import java.util.Map;
+
 /**
  * Spring Security configuration for Pollify.
  * JWT-based stateless authentication with tenant-aware filters.
@@ -62,8 +67,10 @@ public class SecurityConfig {
                 ).permitAll()
                 
                 // Protected API endpoints
-                .requestMatchers("/api/super-admin/**").authenticated()
-                .requestMatchers("/api/admin/**").authenticated()
+                // Voter tokens are authenticated too, so admin areas check the role.
+                // Everything a voter calls lives under /api/voter/** and /api/results/**.
+                .requestMatchers("/api/super-admin/**").hasRole("SUPER_ADMIN")
+                .requestMatchers("/api/admin/**").hasRole("TENANT_ADMIN")
                 .requestMatchers("/api/voter/**").authenticated()
                 .requestMatchers("/api/**").authenticated()
                 
@@ -77,8 +84,25 @@ public class SecurityConfig {
         return http.build();
     }
 
+    /**
+     * New hashes use pollify.security.password.encoder ({bcrypt} or {pbkdf2} prefixed).
+     * Hashes stored without a prefix are the original BCrypt hashes and still match;
+     * PasswordHashingService re-encodes them on the next successful login.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            @Value("${pollify.security.password.encoder:bcrypt}") String encoderId,
+            @Value("${pollify.security.password.bcrypt-strength:10}") int bcryptStrength) {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+        Map<String, PasswordEncoder> encoders = Map.of(
+                "bcrypt", bcrypt,
+                "pbkdf2", Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+        if (!encoders.containsKey(encoderId)) {
+            throw new IllegalStateException("Unknown password encoder: " + encoderId);
+        }
+
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(encoderId, encoders);
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return encoder;
     }
 }
@@ -1,25 +1,99 @@
 package com.pollify.admin.config;
 
+import com.pollify.admin.security.StompAuthChannelInterceptor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.messaging.simp.config.StompBrokerRelayRegistration;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
 
 /**
  * Epic 7: WebSocket configuration for live results
+ * pollify.websocket.broker.mode=simple keeps subscriptions in this JVM (single node).
+ * pollify.websocket.broker.mode=relay forwards /topic to an external STOMP broker
+ * (e.g. ActiveMQ Artemis) so every node delivers results published by any node.
+ * Topic names stay /topic/{tenantId}/election/{electionId}/...
+ * With spring.threads.virtual.enabled the client channels run on virtual threads.
+ * STOMP sessions authenticate with a JWT on CONNECT and may only subscribe to their own tenant.
  */
 @Configuration
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private static final String MODE_RELAY = "relay";
+
+    @Value("${pollify.websocket.broker.mode:simple}")
+    private String brokerMode;
+
+    @Value("${pollify.websocket.broker.relay.host:localhost}")
+    private String relayHost;
+
+    @Value("${pollify.websocket.broker.relay.port:61613}")
+    private int relayPort;
+
+    @Value("${pollify.websocket.broker.relay.login:guest}")
+    private String relayLogin;
+
+    @Value("${pollify.websocket.broker.relay.passcode:guest}")
+    private String relayPasscode;
+
+    @Value("${pollify.websocket.broker.relay.virtual-host:}")
+    private String relayVirtualHost;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    private final StompAuthChannelInterceptor stompAuthChannelInterceptor;
+
+    public WebSocketConfig(StompAuthChannelInterceptor stompAuthChannelInterceptor) {
+        this.stompAuthChannelInterceptor = stompAuthChannelInterceptor;
+    }
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
-        // Enable simple in-memory broker for /topic destinations
-        registry.enableSimpleBroker("/topic");
+        if (MODE_RELAY.equalsIgnoreCase(brokerMode)) {
+            // Relay /topic destinations through the external broker
+            StompBrokerRelayRegistration relay = registry.enableStompBrokerRelay("/topic")
+                    .setRelayHost(relayHost)
+                    .setRelayPort(relayPort)
+                    .setClientLogin(relayLogin)
+                    .setClientPasscode(relayPasscode)
+                    .setSystemLogin(relayLogin)
+                    .setSystemPasscode(relayPasscode);
+            if (!relayVirtualHost.isBlank()) {
+                relay.setVirtualHost(relayVirtualHost);
+            }
+        } else {
+            // Enable simple in-memory broker for /topic destinations
+            registry.enableSimpleBroker("/topic");
+        }
         
         // Set application destination prefix for client messages
         registry.setApplicationDestinationPrefixes("/app");
+
+        // An unbounded virtual-thread channel would otherwise reorder a session's messages
+        if (virtualThreads) {
+            registry.setPreservePublishOrder(true);
+        }
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(stompAuthChannelInterceptor);
+        if (virtualThreads) {
+            registration.executor(new VirtualThreadTaskExecutor("ws-inbound-"));
+        }
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        if (virtualThreads) {
+            registration.executor(new VirtualThreadTaskExecutor("ws-outbound-"));
+        }
     }
 
     @Override
@@ -2,6 +2,8 @@ package com.pollify.admin.controller;
 
 import com.pollify.admin.dto.LoginRequest;
 import com.pollify.admin.dto.LoginResponse;
+import com.pollify.admin.dto.voter.VoterLoginRequest;
+import com.pollify.admin.exception.PasswordHashingBusyException;
 import com.pollify.admin.service.AuthenticationService;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
@@ -35,6 +37,8 @@ public class AuthenticationController {
             return ResponseEntity.ok(response);
         } catch (org.springframework.security.authentication.BadCredentialsException e) {
             return ResponseEntity.status(401).body(java.util.Map.of("message", "Invalid email or password"));
+        } catch (PasswordHashingBusyException e) {
+            return ResponseEntity.status(503).body(java.util.Map.of("message", e.getMessage()));
         } catch (Exception e) {
             log.error("Login error", e);
             return ResponseEntity.status(500).body(java.util.Map.of("message", "Login failed. Please try again."));
@@ -53,6 +57,8 @@ public class AuthenticationController {
             return ResponseEntity.ok(response);
         } catch (org.springframework.security.authentication.BadCredentialsException e) {
             return ResponseEntity.status(401).body(java.util.Map.of("message", "Invalid email or password"));
+        } catch (PasswordHashingBusyException e) {
+            return ResponseEntity.status(503).body(java.util.Map.of("message", e.getMessage()));
         }
     }
 
@@ -68,6 +74,25 @@ public class AuthenticationController {
             return ResponseEntity.ok(response);
         } catch (org.springframework.security.authentication.BadCredentialsException e) {
             return ResponseEntity.status(401).body(java.util.Map.of("message", "Invalid email or password"));
+        } catch (PasswordHashingBusyException e) {
+            return ResponseEntity.status(503).body(java.util.Map.of("message", e.getMessage()));
+        }
+    }
+
+    /**
+     * Voter login (domain schools by email domain, code schools with their school code)
+     * POST /api/auth/voter/login
+     */
+    @PostMapping("/voter/login")
+    public ResponseEntity<?> loginVoter(@Valid @RequestBody VoterLoginRequest request) {
+        log.info("Voter login request for: {}", request.getEmail());
+        try {
+            LoginResponse response = authenticationService.loginVoter(request);
+            return ResponseEntity.ok(response);
+        } catch (org.springframework.security.authentication.BadCredentialsException e) {
+            return ResponseEntity.status(401).body(java.util.Map.of("message", "Invalid email or password"));
+        } catch (PasswordHashingBusyException e) {
+            return ResponseEntity.status(503).body(java.util.Map.of("message", e.getMessage()));
         }
     }
 }
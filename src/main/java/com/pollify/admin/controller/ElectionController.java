@@ -2,7 +2,10 @@ package com.pollify.admin.controller;
 
 import com.pollify.admin.dto.election.CreateElectionRequest;
 import com.pollify.admin.dto.election.ElectionResponse;
+import com.pollify.admin.dto.election.VoteReconciliationReport;
+import com.pollify.admin.dto.election.VoterIndexStats;
 import com.pollify.admin.service.ElectionService;
+import com.pollify.admin.service.VoteReconciliationService;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -22,9 +25,13 @@ import java.util.UUID;
 public class ElectionController {
 
     private final ElectionService electionService;
+    private final VoteReconciliationService voteReconciliationService;
 
-    public ElectionController(ElectionService electionService) {
+    public ElectionController(
+            ElectionService electionService,
+            VoteReconciliationService voteReconciliationService) {
         this.electionService = electionService;
+        this.voteReconciliationService = voteReconciliationService;
     }
 
     /**
@@ -97,4 +104,26 @@ public class ElectionController {
         List<ElectionResponse> elections = electionService.getActiveElections();
         return ResponseEntity.ok(elections);
     }
+
+    /**
+     * Recompute candidate vote counts from the vote table and report drift
+     * POST /api/admin/elections/{id}/reconcile-votes
+     */
+    @PostMapping("/{id}/reconcile-votes")
+    public ResponseEntity<VoteReconciliationReport> reconcileVotes(@PathVariable UUID id) {
+        log.info("Reconciling vote counts for election: {}", id);
+        VoteReconciliationReport report = voteReconciliationService.reconcileElection(id);
+        return ResponseEntity.ok(report);
+    }
+
+    /**
+     * Memory used by the election's in-memory has-voted index
+     * GET /api/admin/elections/{id}/voter-index
+     */
+    @GetMapping("/{id}/voter-index")
+    public ResponseEntity<VoterIndexStats> getVoterIndexStats(@PathVariable UUID id) {
+        log.debug("Fetching voter index stats for election: {}", id);
+        VoterIndexStats stats = electionService.getVoterIndexStats(id);
+        return ResponseEntity.ok(stats);
+    }
 }
@@ -0,0 +1,76 @@
+package com.pollify.admin.controller;
+
+import com.pollify.admin.dto.voter.RegistrationTokenStats;
+import com.pollify.admin.service.RegistrationTokenService;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Epic 3 - Story 3.2: Registration token management (code schools - Option B)
+ * Tenant admin endpoints for generating and downloading one-time registration tokens.
+ * CSV responses are written straight to the servlet response while the rows are read.
+ */
+@RestController
+@RequestMapping("/api/admin/registration-tokens")
+@Slf4j
+public class RegistrationTokenController {
+
+    private static final String CSV_CONTENT_TYPE = "text/csv;charset=UTF-8";
+    private static final String BATCH_HEADER = "X-Token-Batch";
+
+    private final RegistrationTokenService registrationTokenService;
+
+    public RegistrationTokenController(RegistrationTokenService registrationTokenService) {
+        this.registrationTokenService = registrationTokenService;
+    }
+
+    /**
+     * Generate tokens and download exactly the new ones as CSV
+     * POST /api/admin/registration-tokens/generate?count=N
+     */
+    @PostMapping("/generate")
+    public void generateTokens(@RequestParam("count") int count, HttpServletResponse response) throws IOException {
+        log.info("Generating {} registration token(s)", count);
+        UUID batch = registrationTokenService.generate(count);
+        response.setHeader(BATCH_HEADER, batch.toString());
+        writeCsv(response, "registration-tokens-" + batch + ".csv", null, batch);
+    }
+
+    /**
+     * Download tokens as CSV, optionally only AVAILABLE or USED ones, or only one generation run
+     * GET /api/admin/registration-tokens/export?status=AVAILABLE&batch={batchId}
+     */
+    @GetMapping("/export")
+    public void exportTokens(
+            @RequestParam(value = "status", required = false) String status,
+            @RequestParam(value = "batch", required = false) UUID batch,
+            HttpServletResponse response) throws IOException {
+        writeCsv(response, "registration-tokens.csv", status, batch);
+    }
+
+    /**
+     * Token usage: total, used and available
+     * GET /api/admin/registration-tokens/stats
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<RegistrationTokenStats> getTokenStats() {
+        return ResponseEntity.ok(registrationTokenService.stats());
+    }
+
+    private void writeCsv(HttpServletResponse response, String fileName, String status, UUID batch)
+            throws IOException {
+        response.setContentType(CSV_CONTENT_TYPE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"");
+        Writer writer = response.getWriter();
+        registrationTokenService.exportCsv(writer, status, batch);
+    }
+}
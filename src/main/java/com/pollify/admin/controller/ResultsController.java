@@ -2,12 +2,24 @@ package com.pollify.admin.controller;
 
 import com.pollify.admin.dto.election.CandidateResponse;
 import com.pollify.admin.dto.results.LiveResultsResponse;
+import com.pollify.admin.multitenancy.TenantContext;
+import com.pollify.admin.service.FinalResultsService;
+import com.pollify.admin.service.FrozenResults;
 import com.pollify.admin.service.ResultsService;
+import com.pollify.admin.service.ResultsSseService;
+import com.pollify.admin.service.ResultsVersionRegistry;
+import com.pollify.admin.service.WebSocketService;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -20,42 +32,104 @@ import java.util.UUID;
 public class ResultsController {
 
     private final ResultsService resultsService;
+    private final FinalResultsService finalResultsService;
+    private final ResultsVersionRegistry resultsVersionRegistry;
+    private final ResultsSseService resultsSseService;
+    private final WebSocketService webSocketService;
 
-    public ResultsController(ResultsService resultsService) {
+    public ResultsController(
+            ResultsService resultsService,
+            FinalResultsService finalResultsService,
+            ResultsVersionRegistry resultsVersionRegistry,
+            ResultsSseService resultsSseService,
+            WebSocketService webSocketService) {
         this.resultsService = resultsService;
+        this.finalResultsService = finalResultsService;
+        this.resultsVersionRegistry = resultsVersionRegistry;
+        this.resultsSseService = resultsSseService;
+        this.webSocketService = webSocketService;
     }
 
     /**
      * Epic 7 - Story 7.1: Get live results for an election
      * GET /api/results/elections/{electionId}/live
      * Accessible by admins during active elections
+     * Polling clients send If-None-Match; unchanged results get 304 without loading them
      */
     @GetMapping("/elections/{electionId}/live")
-    public ResponseEntity<LiveResultsResponse> getLiveResults(@PathVariable UUID electionId) {
+    public ResponseEntity<LiveResultsResponse> getLiveResults(
+            @PathVariable UUID electionId,
+            WebRequest request) {
+        String tenantId = TenantContext.getTenantId();
+        if (tenantId == null) {
+            throw new IllegalStateException("Tenant context not set");
+        }
+
+        String etag = resultsVersionRegistry.etag(tenantId, electionId);
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+
         log.debug("Fetching live results for election: {}", electionId);
         LiveResultsResponse response = resultsService.getLiveResults(electionId);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .body(response);
+    }
+
+    /**
+     * Epic 7 - Story 7.1: Stream live results as Server-Sent Events
+     * GET /api/results/elections/{electionId}/stream
+     * Fallback for clients that cannot keep a WebSocket open: a "snapshot" event
+     * (same payload as the STOMP subscribe) followed by "results" events carrying
+     * whatever the STOMP topic gets
+     */
+    @GetMapping(value = "/elections/{electionId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamResults(@PathVariable UUID electionId) {
+        String tenantId = TenantContext.getTenantId();
+        if (tenantId == null) {
+            throw new IllegalStateException("Tenant context not set");
+        }
+
+        log.debug("Opening results stream for election: {}", electionId);
+        return resultsSseService.subscribe(tenantId, electionId,
+                () -> webSocketService.resultsSnapshot(tenantId, electionId));
     }
 
     /**
      * Epic 7 - Story 7.2: Get final results after election closes
      * GET /api/results/elections/{electionId}/final
      * Accessible by admins and voters after election closes
+     * Frozen results carry a strong ETag; matching If-None-Match requests get 304
      */
     @GetMapping("/elections/{electionId}/final")
     public ResponseEntity<LiveResultsResponse> getFinalResults(@PathVariable UUID electionId) {
         log.debug("Fetching final results for election: {}", electionId);
-        LiveResultsResponse response = resultsService.getFinalResults(electionId);
-        return ResponseEntity.ok(response);
+        FrozenResults results = finalResultsService.getFinalResults(electionId);
+        return ResponseEntity.ok()
+                .eTag(results.etag())
+                .cacheControl(finalResultsService.cacheControl())
+                .body(results.results());
     }
 
     /**
-     * Get election winners
+     * Get election winners (frozen and cacheable once the election is closed)
      * GET /api/results/elections/{electionId}/winners
      */
     @GetMapping("/elections/{electionId}/winners")
     public ResponseEntity<List<CandidateResponse>> getWinners(@PathVariable UUID electionId) {
         log.debug("Fetching winners for election: {}", electionId);
+        Optional<FrozenResults> frozen = finalResultsService.findFinalResults(electionId);
+        if (frozen.isPresent()) {
+            return ResponseEntity.ok()
+                    .eTag(frozen.get().etag())
+                    .cacheControl(finalResultsService.cacheControl())
+                    .body(frozen.get().winners());
+        }
         List<CandidateResponse> winners = resultsService.getWinners(electionId);
         return ResponseEntity.ok(winners);
     }
@@ -0,0 +1,36 @@
+package com.pollify.admin.controller;
+
+import com.pollify.admin.dto.results.ResultsSnapshot;
+import com.pollify.admin.service.WebSocketService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
+import org.springframework.stereotype.Controller;
+
+import java.util.UUID;
+
+/**
+ * Epic 7: STOMP subscribe handlers for live results
+ * Clients subscribe to /app/{tenantId}/election/{electionId}/results once for the full
+ * snapshot, then follow /topic/{tenantId}/election/{electionId}/results for updates.
+ * On a sequence gap they simply subscribe to the snapshot again.
+ * StompAuthChannelInterceptor has already checked that tenantId is the session's own tenant.
+ */
+@Controller
+@Slf4j
+public class ResultsSubscriptionController {
+
+    private final WebSocketService webSocketService;
+
+    public ResultsSubscriptionController(WebSocketService webSocketService) {
+        this.webSocketService = webSocketService;
+    }
+
+    @SubscribeMapping("/{tenantId}/election/{electionId}/results")
+    public ResultsSnapshot subscribeResults(
+            @DestinationVariable String tenantId,
+            @DestinationVariable UUID electionId) {
+        log.debug("Results snapshot requested for election: {} in tenant: {}", electionId, tenantId);
+        return webSocketService.resultsSnapshot(tenantId, electionId);
+    }
+}
@@ -0,0 +1,55 @@
+package com.pollify.admin.controller;
+
+import com.pollify.admin.dto.voter.StudentListImportProgress;
+import com.pollify.admin.dto.voter.StudentListImportReport;
+import com.pollify.admin.service.StudentListImportService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Epic 3 - Story 3.2: Student list management (code schools - Option A)
+ * Tenant admin endpoints for uploading the list of students allowed to register
+ */
+@RestController
+@RequestMapping("/api/admin/student-list")
+@Slf4j
+public class StudentListController {
+
+    private final StudentListImportService studentListImportService;
+
+    public StudentListController(StudentListImportService studentListImportService) {
+        this.studentListImportService = studentListImportService;
+    }
+
+    /**
+     * Upload a student list CSV (header: student_id, full_name)
+     * POST /api/admin/student-list/import?mode=append|replace
+     */
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<StudentListImportReport> importStudentList(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(value = "mode", defaultValue = StudentListImportService.MODE_APPEND) String mode)
+            throws IOException {
+        log.info("Student list upload: {} ({} bytes, mode: {})", file.getOriginalFilename(), file.getSize(), mode);
+        try (InputStream csv = file.getInputStream()) {
+            return ResponseEntity.ok(studentListImportService.importCsv(csv, mode));
+        }
+    }
+
+    /**
+     * Progress of the upload currently running for this school
+     * GET /api/admin/student-list/import/progress
+     */
+    @GetMapping("/import/progress")
+    public ResponseEntity<StudentListImportProgress> getImportProgress() {
+        return studentListImportService.progress()
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.noContent().build());
+    }
+}
@@ -2,12 +2,23 @@ package com.pollify.admin.controller;
 
 import com.pollify.admin.dto.CompleteOnboardingRequest;
 import com.pollify.admin.dto.CompleteOnboardingResponse;
+import com.pollify.admin.dto.PasswordHashingStats;
+import com.pollify.admin.dto.results.BroadcastStats;
+import com.pollify.admin.dto.tenant.TenantConnectionStats;
+import com.pollify.admin.dto.tenant.TenantPoolStats;
+import com.pollify.admin.multitenancy.SchemaMultiTenantConnectionProvider;
+import com.pollify.admin.multitenancy.TenantConnectionLimiter;
+import com.pollify.admin.service.PasswordHashingService;
+import com.pollify.admin.service.ResultsBroadcaster;
 import com.pollify.admin.service.TenantOnboardingService;
+import com.pollify.admin.service.TenantRegistry;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 /**
  * Super admin controller for platform management and tenant onboarding
  */
@@ -17,9 +28,35 @@ import org.springframework.web.bind.annotation.*;
 public class SuperAdminController {
 
     private final TenantOnboardingService tenantOnboardingService;
+    private final ResultsBroadcaster resultsBroadcaster;
+    private final SchemaMultiTenantConnectionProvider connectionProvider;
+    private final TenantConnectionLimiter connectionLimiter;
+    private final TenantRegistry tenantRegistry;
+    private final PasswordHashingService passwordHashingService;
 
-    public SuperAdminController(TenantOnboardingService tenantOnboardingService) {
+    public SuperAdminController(
+            TenantOnboardingService tenantOnboardingService,
+            ResultsBroadcaster resultsBroadcaster,
+            SchemaMultiTenantConnectionProvider connectionProvider,
+            TenantConnectionLimiter connectionLimiter,
+            TenantRegistry tenantRegistry,
+            PasswordHashingService passwordHashingService) {
         this.tenantOnboardingService = tenantOnboardingService;
+        this.resultsBroadcaster = resultsBroadcaster;
+        this.connectionProvider = connectionProvider;
+        this.connectionLimiter = connectionLimiter;
+        this.tenantRegistry = tenantRegistry;
+        this.passwordHashingService = passwordHashingService;
+    }
+
+    /**
+     * Reloads this node's in-memory tenant registry, e.g. after another node onboarded a school
+     * POST /api/super-admin/tenant-registry/refresh
+     */
+    @PostMapping("/tenant-registry/refresh")
+    public ResponseEntity<Void> refreshTenantRegistry() {
+        tenantRegistry.refresh();
+        return ResponseEntity.noContent().build();
     }
 
     /**
@@ -33,4 +70,40 @@ public class SuperAdminController {
         CompleteOnboardingResponse response = tenantOnboardingService.completeOnboarding(request);
         return ResponseEntity.ok(response);
     }
+
+    /**
+     * Live results broadcast coalescing counters
+     * GET /api/super-admin/metrics/results-broadcast
+     */
+    @GetMapping("/metrics/results-broadcast")
+    public ResponseEntity<BroadcastStats> getResultsBroadcastStats() {
+        return ResponseEntity.ok(resultsBroadcaster.stats());
+    }
+
+    /**
+     * search_path switches executed and saved by the tenant connection provider
+     * GET /api/super-admin/metrics/tenant-connections
+     */
+    @GetMapping("/metrics/tenant-connections")
+    public ResponseEntity<TenantConnectionStats> getTenantConnectionStats() {
+        return ResponseEntity.ok(connectionProvider.stats());
+    }
+
+    /**
+     * Per-tenant connection pool shares: in use, waits and timeouts
+     * GET /api/super-admin/metrics/tenant-pools
+     */
+    @GetMapping("/metrics/tenant-pools")
+    public ResponseEntity<List<TenantPoolStats>> getTenantPoolStats() {
+        return ResponseEntity.ok(connectionLimiter.stats());
+    }
+
+    /**
+     * Password hashing throughput, latency, shed requests and pool backlog
+     * GET /api/super-admin/metrics/password-hashing
+     */
+    @GetMapping("/metrics/password-hashing")
+    public ResponseEntity<PasswordHashingStats> getPasswordHashingStats() {
+        return ResponseEntity.ok(passwordHashingService.stats());
+    }
 }
@@ -1,9 +1,12 @@
 package com.pollify.admin.controller;
 
 import com.pollify.admin.dto.election.ElectionResponse;
+import com.pollify.admin.dto.voting.BallotResponse;
+import com.pollify.admin.dto.voting.CastBallotRequest;
 import com.pollify.admin.dto.voting.CastVoteRequest;
 import com.pollify.admin.dto.voting.VoteResponse;
 import com.pollify.admin.service.ElectionService;
+import com.pollify.admin.service.VoteIngestionService;
 import com.pollify.admin.service.VotingService;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
@@ -25,12 +28,15 @@ public class VotingController {
 
     private final VotingService votingService;
     private final ElectionService electionService;
+    private final VoteIngestionService voteIngestionService;
 
     public VotingController(
             VotingService votingService,
-            ElectionService electionService) {
+            ElectionService electionService,
+            VoteIngestionService voteIngestionService) {
         this.votingService = votingService;
         this.electionService = electionService;
+        this.voteIngestionService = voteIngestionService;
     }
 
     /**
@@ -65,7 +71,27 @@ public class VotingController {
             Authentication authentication) {
         UUID voterId = UUID.fromString(authentication.getName());
         log.info("Voter {} casting vote in election: {}", voterId, request.getElectionId());
-        VoteResponse response = votingService.castVote(request, voterId);
+        // Write-behind mode never opens a transaction on the request thread
+        VoteResponse response = voteIngestionService.isWriteBehind()
+                ? voteIngestionService.acceptVote(request, voterId)
+                : votingService.castVote(request, voterId);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Epic 6: Cast a full ballot - one candidate per position in a single request
+     * POST /api/voter/ballot
+     */
+    @PostMapping("/ballot")
+    public ResponseEntity<BallotResponse> castBallot(
+            @Valid @RequestBody CastBallotRequest request,
+            Authentication authentication) {
+        UUID voterId = UUID.fromString(authentication.getName());
+        log.info("Voter {} casting ballot with {} selection(s) in election: {}",
+                voterId, request.getCandidateIds().size(), request.getElectionId());
+        BallotResponse response = voteIngestionService.isWriteBehind()
+                ? voteIngestionService.acceptBallot(request, voterId)
+                : votingService.castBallot(request, voterId);
         return ResponseEntity.ok(response);
     }
 
@@ -0,0 +1,25 @@
+package com.pollify.admin.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Password hashing pool counters since startup
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PasswordHashingStats {
+    private String encoder;
+    private Long hashes;
+    private Long verifications;
+    private Long upgrades;
+    private Long rejected;
+    private Long timedOut;
+    // Hashes that kept running after their caller timed out; BCrypt cannot be interrupted
+    private Long abandoned;
+    private Double averageMillis;
+    private Integer active;
+    private Integer queued;
+}
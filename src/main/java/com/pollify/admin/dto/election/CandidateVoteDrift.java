@@ -0,0 +1,18 @@
+package com.pollify.admin.dto.election;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Difference between candidate.vote_count and the vote table for one candidate
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CandidateVoteDrift {
+    private String candidateId;
+    private String fullName;
+    private Long recordedVoteCount;
+    private Long actualVoteCount;
+}
@@ -0,0 +1,23 @@
+package com.pollify.admin.dto.election;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * Result of recomputing candidate vote counts from the vote table
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class VoteReconciliationReport {
+    private String electionId;
+    private Long totalVotes;
+    private Integer candidatesChecked;
+    private List<CandidateVoteDrift> corrections;
+    private Boolean applied;    // false when drift was only reported (sharded counters busy with votes)
+    private OffsetDateTime reconciledAt;
+}
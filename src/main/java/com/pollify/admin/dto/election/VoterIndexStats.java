@@ -0,0 +1,19 @@
+package com.pollify.admin.dto.election;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Memory footprint of an election's in-memory "has voted" index
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class VoterIndexStats {
+    private String electionId;
+    private Integer voters;
+    private Integer capacity;
+    private Long memoryBytes;
+    private Long bytesPer100kVoters;
+}
@@ -0,0 +1,19 @@
+package com.pollify.admin.dto.results;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Coalescing counters of the live results broadcaster since startup
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BroadcastStats {
+    private Long updatesReceived;
+    private Long updatesMerged;
+    private Long snapshotsEmitted;
+    private Long snapshotsRejected;
+    private Integer pendingElections;
+}
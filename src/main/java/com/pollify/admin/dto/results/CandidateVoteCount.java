@@ -0,0 +1,16 @@
+package com.pollify.admin.dto.results;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A candidate's current vote count inside a results delta
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CandidateVoteCount {
+    private String candidateId;
+    private Long voteCount;
+}
@@ -20,5 +20,6 @@ public class LiveResultsResponse {
     private String status;
     private Long totalVotes;
     private List<CandidateResponse> candidates;
+    private List<PositionResultsResponse> positions;
     private OffsetDateTime updatedAt;
 }
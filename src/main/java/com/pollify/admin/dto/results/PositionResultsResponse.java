@@ -0,0 +1,17 @@
+package com.pollify.admin.dto.results;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Per-position totals - candidate percentages are relative to their position's total
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PositionResultsResponse {
+    private String position;
+    private Long totalVotes;
+    private Integer candidateCount;
+}
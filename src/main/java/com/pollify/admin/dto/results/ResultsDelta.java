@@ -0,0 +1,25 @@
+package com.pollify.admin.dto.results;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * Epic 7: Delta results message (pollify.results.protocol=delta).
+ * Carries only candidates whose count changed since the previous sequence. Counts are
+ * absolute, so a client that sees a gap in sequence just re-requests the snapshot.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResultsDelta {
+    private String electionId;
+    private Long sequence;
+    private String status;
+    private Long totalVotes;
+    private List<CandidateVoteCount> changes;
+    private OffsetDateTime updatedAt;
+}
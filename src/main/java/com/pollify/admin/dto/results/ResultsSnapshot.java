@@ -0,0 +1,16 @@
+package com.pollify.admin.dto.results;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Epic 7: Full results sent once on subscribe; deltas continue from sequence + 1
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResultsSnapshot {
+    private Long sequence;
+    private LiveResultsResponse results;
+}
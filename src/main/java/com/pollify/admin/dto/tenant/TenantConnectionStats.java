@@ -0,0 +1,21 @@
+package com.pollify.admin.dto.tenant;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * search_path switching counters of the tenant connection provider since startup, covering
+ * tenant and master checkouts. searchPathSetsPerCheckout is the measured number of SET round
+ * trips per checkout (0 to 1).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TenantConnectionStats {
+    private Long checkouts;
+    private Long searchPathSwitches;
+    private Long searchPathSwitchesSkipped;
+    private Double searchPathSetsPerCheckout;
+    private Integer trackedConnections;
+}
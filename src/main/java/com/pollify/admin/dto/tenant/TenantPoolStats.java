@@ -0,0 +1,22 @@
+package com.pollify.admin.dto.tenant;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One tenant's share of the connection pool: current use and waits/timeouts since startup
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TenantPoolStats {
+    private String tenantId;
+    private Integer inUse;
+    private Integer reservedInUse;
+    private Long acquired;
+    private Long waited;
+    private Long timedOut;
+    private Long totalWaitMs;
+    private Long maxWaitMs;
+}
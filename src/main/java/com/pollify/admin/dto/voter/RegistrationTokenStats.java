@@ -0,0 +1,17 @@
+package com.pollify.admin.dto.voter;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Epic 3 - Story 3.2: Registration token usage of a code school (Option B)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RegistrationTokenStats {
+    private Long total;
+    private Long used;
+    private Long available;
+}
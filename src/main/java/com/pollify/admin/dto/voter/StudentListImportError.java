@@ -0,0 +1,17 @@
+package com.pollify.admin.dto.voter;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A student list row that was skipped, by line number of the uploaded file
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudentListImportError {
+    private Long line;
+    private String studentId;
+    private String message;
+}
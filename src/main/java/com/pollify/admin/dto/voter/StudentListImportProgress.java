@@ -0,0 +1,21 @@
+package com.pollify.admin.dto.voter;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Epic 3 - Story 3.2: Student list upload still running for the tenant
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudentListImportProgress {
+    private String mode;
+    private String phase;       // STAGING while the file streams in, MERGING once it is in the database
+    private Long rowsRead;
+    private Long rejected;
+    private OffsetDateTime startedAt;
+}
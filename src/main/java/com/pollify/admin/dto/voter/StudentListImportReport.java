@@ -0,0 +1,24 @@
+package com.pollify.admin.dto.voter;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Epic 3 - Story 3.2: Outcome of a student list upload
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudentListImportReport {
+    private String mode;
+    private Long rowsRead;
+    private Long imported;
+    private Long alreadyListed;     // student ID already in the list (append) or kept as registered (replace)
+    private Long removed;           // unregistered students dropped by a replace
+    private Long rejected;
+    private List<StudentListImportError> errors;   // first max-reported-errors rejected rows
+    private Long durationMs;
+}
@@ -0,0 +1,26 @@
+package com.pollify.admin.dto.voter;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Voter login. Code school voters register with a personal email, so they also send
+ * their school code; domain school voters are resolved from their email domain.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class VoterLoginRequest {
+
+    @NotBlank(message = "Email is required")
+    @Email(message = "Invalid email format")
+    private String email;
+
+    @NotBlank(message = "Password is required")
+    private String password;
+
+    private String schoolCode;
+}
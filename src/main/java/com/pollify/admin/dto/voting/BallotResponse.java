@@ -0,0 +1,19 @@
+package com.pollify.admin.dto.voting;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Ballot response DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BallotResponse {
+    private boolean success;
+    private String message;
+    private List<String> voteIds;
+}
@@ -0,0 +1,25 @@
+package com.pollify.admin.dto.voting;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Epic 6: Cast ballot request - one selected candidate per position
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CastBallotRequest {
+
+    @NotNull(message = "Election ID is required")
+    private UUID electionId;
+
+    @NotEmpty(message = "At least one candidate must be selected")
+    private List<@NotNull UUID> candidateIds;
+}
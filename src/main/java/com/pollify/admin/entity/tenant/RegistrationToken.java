@@ -39,6 +39,10 @@ public class RegistrationToken {
     @Column(name = "generated_at")
     private OffsetDateTime generatedAt;
 
+    // Generation run the token was created in; null for tokens from before V5
+    @Column(name = "generation_batch")
+    private UUID generationBatch;
+
     @Column(name = "created_at")
     private OffsetDateTime createdAt;
 
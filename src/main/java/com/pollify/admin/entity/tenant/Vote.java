@@ -10,14 +10,14 @@ import java.util.UUID;
 
 /**
  * Epic 6: Vote entity (tenant schema)
- * Individual votes cast with duplicate prevention
+ * Individual votes cast with duplicate prevention (one per voter per position)
  */
 @Entity
 @Table(
     name = "vote",
     uniqueConstraints = @UniqueConstraint(
-        name = "unique_voter_election", 
-        columnNames = {"voter_id", "election_id"}
+        name = "unique_voter_election_position",
+        columnNames = {"voter_id", "election_id", "position"}
     )
 )
 @Data
@@ -38,6 +38,9 @@ public class Vote {
     @Column(name = "candidate_id", nullable = false)
     private UUID candidateId;
 
+    @Column(nullable = false, length = 200)
+    private String position;
+
     @Column(name = "voted_at")
     private OffsetDateTime votedAt;
 
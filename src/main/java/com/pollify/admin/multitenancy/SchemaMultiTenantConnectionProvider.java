@@ -1,16 +1,34 @@
 package com.pollify.admin.multitenancy;
 
+import com.pollify.admin.dto.tenant.TenantConnectionStats;
 import org.hibernate.engine.jdbc.connections.spi.MultiTenantConnectionProvider;
 import org.springframework.stereotype.Component;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.regex.Pattern;
 
 /**
  * Switches PostgreSQL search_path to route all Hibernate queries to the correct university schema.
  * Includes SQL injection prevention via regex validation of tenant identifiers.
+ *
+ * The schema last set on each physical (pooled) connection is remembered, so a checkout for the
+ * same tenant costs no round trip and a release costs none at all: search_path is only changed
+ * when the next checkout needs a different schema. Tenant-less checkouts ({@link #getAnyConnection()})
+ * go through the same tracker to master, so they never see a previous tenant's schema. SET runs in
+ * auto-commit mode at checkout, so it cannot be rolled back behind the tracker's back. Code that
+ * changes search_path on a raw DataSource connection must call {@link #forgetSearchPath(Connection)}
+ * before returning it.
+ *
+ * Every tenant checkout first takes a permit from {@link TenantConnectionLimiter}, so one tenant
+ * cannot hold the whole pool.
  */
 @Component
 public class SchemaMultiTenantConnectionProvider implements MultiTenantConnectionProvider<String> {
@@ -20,16 +38,41 @@ public class SchemaMultiTenantConnectionProvider implements MultiTenantConnectio
     // Regex to validate schema names and prevent SQL injection
     private static final Pattern SCHEMA_NAME_PATTERN = Pattern.compile("^[a-zA-Z_][a-zA-Z0-9_]*$");
     private static final int MAX_SCHEMA_NAME_LENGTH = 63; // PostgreSQL identifier length limit
+    private static final String MASTER_SCHEMA = "master";
 
     private final DataSource dataSource;
+    private final TenantConnectionLimiter connectionLimiter;
 
-    public SchemaMultiTenantConnectionProvider(DataSource dataSource) {
+    // physical connection -> schema its search_path points at; weak so evicted connections drop out
+    private final Map<Connection, String> searchPaths = Collections.synchronizedMap(new WeakHashMap<>());
+
+    // checked out connection -> its tenant's pool share
+    private final Map<Connection, TenantConnectionLimiter.Permit> permits = new ConcurrentHashMap<>();
+
+    private final LongAdder checkouts = new LongAdder();
+    private final LongAdder searchPathSwitches = new LongAdder();
+    private final LongAdder searchPathSwitchesSkipped = new LongAdder();
+
+    public SchemaMultiTenantConnectionProvider(
+            DataSource dataSource,
+            TenantConnectionLimiter connectionLimiter) {
         this.dataSource = dataSource;
+        this.connectionLimiter = connectionLimiter;
     }
 
+    /**
+     * A connection whose search_path points at master
+     */
     @Override
     public Connection getAnyConnection() throws SQLException {
-        return dataSource.getConnection();
+        Connection connection = dataSource.getConnection();
+        try {
+            useSchema(connection, MASTER_SCHEMA);
+        } catch (SQLException e) {
+            connection.close();
+            throw e;
+        }
+        return connection;
     }
 
     @Override
@@ -40,15 +83,22 @@ public class SchemaMultiTenantConnectionProvider implements MultiTenantConnectio
     @Override
     public Connection getConnection(String tenantIdentifier) throws SQLException {
         validateTenantIdentifier(tenantIdentifier);
-        
-        final Connection connection = getAnyConnection();
+
+        TenantConnectionLimiter.Permit permit = connectionLimiter.acquire(tenantIdentifier);
+        final Connection connection;
         try {
-            // Switch search_path to tenant schema
-            connection.createStatement().execute(
-                "SET search_path TO \"" + tenantIdentifier + "\", public"
-            );
+            connection = dataSource.getConnection();
+        } catch (SQLException | RuntimeException e) {
+            connectionLimiter.release(permit);
+            throw e;
+        }
+        if (permit != null) {
+            permits.put(connection, permit);
+        }
+        try {
+            useSchema(connection, tenantIdentifier);
         } catch (SQLException e) {
-            connection.close();
+            releaseConnection(tenantIdentifier, connection);
             throw e;
         }
         return connection;
@@ -56,14 +106,54 @@ public class SchemaMultiTenantConnectionProvider implements MultiTenantConnectio
 
     @Override
     public void releaseConnection(String tenantIdentifier, Connection connection) throws SQLException {
+        // search_path is left as is; the next checkout switches it only if it needs another schema
         try {
-            // Reset search_path to master schema
-            connection.createStatement().execute("SET search_path TO \"master\", public");
-        } catch (SQLException e) {
-            // Log but don't throw - connection is being closed anyway
-        } finally {
             connection.close();
+        } finally {
+            connectionLimiter.release(permits.remove(connection));
+        }
+    }
+
+    /**
+     * Stops trusting the tracked search_path of a connection whose search_path was changed
+     * outside this provider (e.g. tenant schema creation and migrations)
+     */
+    public void forgetSearchPath(Connection connection) {
+        try {
+            searchPaths.remove(connection.unwrap(Connection.class));
+        } catch (SQLException e) {
+            searchPaths.remove(connection);
+        }
+    }
+
+    public TenantConnectionStats stats() {
+        long checkoutCount = checkouts.sum();
+        long switches = searchPathSwitches.sum();
+        return new TenantConnectionStats(
+                checkoutCount,
+                switches,
+                searchPathSwitchesSkipped.sum(),
+                checkoutCount > 0 ? (double) switches / checkoutCount : null,
+                searchPaths.size());
+    }
+
+    /**
+     * Points the connection's search_path at the schema unless the tracker says it already does
+     */
+    private void useSchema(Connection connection, String schema) throws SQLException {
+        checkouts.increment();
+        Connection physical = connection.unwrap(Connection.class);
+        if (schema.equals(searchPaths.get(physical))) {
+            searchPathSwitchesSkipped.increment();
+            return;
+        }
+
+        searchPaths.remove(physical);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SET search_path TO \"" + schema + "\", public");
         }
+        searchPaths.put(physical, schema);
+        searchPathSwitches.increment();
     }
 
     @Override
@@ -0,0 +1,211 @@
+package com.pollify.admin.multitenancy;
+
+import com.pollify.admin.dto.tenant.TenantPoolStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.sql.SQLTransientConnectionException;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * Fair-share partitioning of the shared connection pool between tenants (the master schema counts as one).
+ * The pool is split into a burst share, open to every tenant up to max-per-tenant connections, and a
+ * reserve that only serves tenants holding fewer than min-per-tenant. A university running a large
+ * election therefore tops out at max-per-tenant and can never drain the reserve, so logins and
+ * registrations of other tenants still get a connection. Callers that cannot get a permit within
+ * acquire-timeout-ms fail fast instead of queueing on the pool's own 30 second timeout.
+ * Once more than max-tracked-tenants partitions exist, idle ones are dropped (with their counters),
+ * so a stream of unknown tenant IDs cannot grow the map without bound.
+ */
+@Component
+public class TenantConnectionLimiter {
+
+    private final boolean enabled;
+    private final int minPerTenant;
+    private final int maxPerTenant;
+    private final int reserveCapacity;
+    private final int burstCapacity;
+    private final long acquireTimeoutNanos;
+    private final int maxTrackedTenants;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+
+    // Guarded by lock
+    private final Map<String, TenantPartition> partitions = new HashMap<>();
+    private int burstInUse;
+    private int reserveInUse;
+
+    public TenantConnectionLimiter(
+            @Value("${pollify.tenant.connections.enabled:true}") boolean enabled,
+            @Value("${spring.datasource.hikari.maximum-pool-size:20}") int poolSize,
+            @Value("${pollify.tenant.connections.reserved:4}") int reserved,
+            @Value("${pollify.tenant.connections.min-per-tenant:2}") int minPerTenant,
+            @Value("${pollify.tenant.connections.max-per-tenant:12}") int maxPerTenant,
+            @Value("${pollify.tenant.connections.acquire-timeout-ms:10000}") long acquireTimeoutMs,
+            @Value("${pollify.tenant.connections.max-tracked-tenants:1000}") int maxTrackedTenants) {
+        if (reserved < 0 || reserved >= poolSize) {
+            throw new IllegalStateException("pollify.tenant.connections.reserved must be between 0 and the pool size");
+        }
+        if (minPerTenant < 0 || maxPerTenant < 1 || minPerTenant > maxPerTenant) {
+            throw new IllegalStateException("pollify.tenant.connections requires 0 <= min-per-tenant <= max-per-tenant");
+        }
+        this.enabled = enabled;
+        this.minPerTenant = minPerTenant;
+        this.maxPerTenant = maxPerTenant;
+        this.reserveCapacity = reserved;
+        this.burstCapacity = poolSize - reserved;
+        this.acquireTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(acquireTimeoutMs);
+        this.maxTrackedTenants = maxTrackedTenants;
+    }
+
+    /**
+     * Waits for the tenant's share of the pool
+     *
+     * @throws SQLTransientConnectionException if no share frees up within acquire-timeout-ms
+     */
+    public Permit acquire(String tenantId) throws SQLTransientConnectionException {
+        if (!enabled) {
+            return null;
+        }
+
+        long start = System.nanoTime();
+        long remaining = acquireTimeoutNanos;
+        boolean waited = false;
+        lock.lock();
+        TenantPartition partition = partitions.computeIfAbsent(tenantId, id -> new TenantPartition());
+        partition.acquiring++;
+        try {
+            while (true) {
+                Permit permit = tryGrant(tenantId, partition);
+                if (permit != null) {
+                    partition.acquired++;
+                    if (waited) {
+                        long waitNanos = System.nanoTime() - start;
+                        partition.waited++;
+                        partition.totalWaitNanos += waitNanos;
+                        partition.maxWaitNanos = Math.max(partition.maxWaitNanos, waitNanos);
+                    }
+                    return permit;
+                }
+                if (remaining <= 0) {
+                    partition.timedOut++;
+                    throw new SQLTransientConnectionException(
+                            "Connection share of tenant " + tenantId + " exhausted - request timed out after "
+                                    + TimeUnit.NANOSECONDS.toMillis(acquireTimeoutNanos) + "ms");
+                }
+                waited = true;
+                remaining = released.awaitNanos(remaining);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a tenant connection", e);
+        } finally {
+            partition.acquiring--;
+            dropIfIdle(tenantId, partition);
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns a permit from {@link #acquire(String)}; null permits are ignored
+     */
+    public void release(Permit permit) {
+        if (permit == null) {
+            return;
+        }
+        lock.lock();
+        try {
+            TenantPartition partition = partitions.get(permit.tenantId());
+            partition.inUse--;
+            if (permit.reserved()) {
+                partition.reservedInUse--;
+                reserveInUse--;
+            } else {
+                burstInUse--;
+            }
+            dropIfIdle(permit.tenantId(), partition);
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public List<TenantPoolStats> stats() {
+        lock.lock();
+        try {
+            return partitions.entrySet().stream()
+                    .map(entry -> {
+                        TenantPartition partition = entry.getValue();
+                        return new TenantPoolStats(
+                                entry.getKey(),
+                                partition.inUse,
+                                partition.reservedInUse,
+                                partition.acquired,
+                                partition.waited,
+                                partition.timedOut,
+                                TimeUnit.NANOSECONDS.toMillis(partition.totalWaitNanos),
+                                TimeUnit.NANOSECONDS.toMillis(partition.maxWaitNanos));
+                    })
+                    .sorted(Comparator.comparing(TenantPoolStats::getTenantId))
+                    .collect(Collectors.toList());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Called with lock held
+     */
+    private void dropIfIdle(String tenantId, TenantPartition partition) {
+        if (partition.inUse == 0 && partition.acquiring == 0 && partitions.size() > maxTrackedTenants) {
+            partitions.remove(tenantId, partition);
+        }
+    }
+
+    /**
+     * Burst share first; the reserve only while the tenant is under its guaranteed minimum
+     */
+    private Permit tryGrant(String tenantId, TenantPartition partition) {
+        if (partition.inUse >= maxPerTenant) {
+            return null;
+        }
+        if (burstInUse < burstCapacity) {
+            burstInUse++;
+            partition.inUse++;
+            return new Permit(tenantId, false);
+        }
+        if (partition.inUse < minPerTenant && reserveInUse < reserveCapacity) {
+            reserveInUse++;
+            partition.inUse++;
+            partition.reservedInUse++;
+            return new Permit(tenantId, true);
+        }
+        return null;
+    }
+
+    /**
+     * One granted connection; reserved permits come from the guaranteed-minimum reserve
+     */
+    public record Permit(String tenantId, boolean reserved) {
+    }
+
+    private static final class TenantPartition {
+
+        private int inUse;
+        private int acquiring;
+        private int reservedInUse;
+        private long acquired;
+        private long waited;
+        private long timedOut;
+        private long totalWaitNanos;
+        private long maxWaitNanos;
+    }
+}
@@ -1,9 +1,18 @@
 package com.pollify.admin.multitenancy;
 
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
 /**
  * Application-level tenant context that stays synchronized with TenantIdentifierResolver.
  * Services use TenantContext.getTenantId() for business logic while Hibernate uses
  * TenantIdentifierResolver for schema routing.
+ *
+ * The context is thread-bound. Work that crosses threads either captures it with
+ * {@link #snapshot()} / {@link #wrap(Runnable)} (executors configured with the tenant TaskDecorator),
+ * or names its tenant explicitly with {@link #runWithTenant} / {@link #callWithTenant}
+ * (scheduled jobs, broadcasts). Both restore the thread's previous tenant afterwards,
+ * so a nested call can never wipe its caller's context.
  */
 public class TenantContext {
 
@@ -28,4 +37,79 @@ public class TenantContext {
     public static void clear() {
         TenantIdentifierResolver.clear();
     }
+
+    /**
+     * Runs the task with the given tenant (null for master), then restores the previous one
+     */
+    public static void runWithTenant(String tenantId, Runnable task) {
+        callWithTenant(tenantId, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * Calls the task with the given tenant (null for master), then restores the previous one
+     */
+    public static <T> T callWithTenant(String tenantId, Supplier<T> task) {
+        Snapshot previous = snapshot();
+        setTenantId(tenantId);
+        try {
+            return task.get();
+        } finally {
+            previous.restore();
+        }
+    }
+
+    /**
+     * Captures this thread's tenant so it can be re-applied on another thread
+     */
+    public static Snapshot snapshot() {
+        return new Snapshot(TenantIdentifierResolver.peekCurrentTenant());
+    }
+
+    /**
+     * Binds the task to the caller's tenant
+     */
+    public static Runnable wrap(Runnable task) {
+        Snapshot snapshot = snapshot();
+        return () -> snapshot.run(task);
+    }
+
+    /**
+     * Executor whose tasks run with the tenant of the thread that submitted them
+     */
+    public static Executor wrap(Executor executor) {
+        return task -> executor.execute(wrap(task));
+    }
+
+    /**
+     * Tenant captured by {@link #snapshot()}; an empty snapshot runs tasks without a tenant
+     */
+    public record Snapshot(String tenant) {
+
+        /**
+         * Makes the captured tenant current on this thread
+         */
+        public void restore() {
+            TenantIdentifierResolver.restoreCurrentTenant(tenant);
+        }
+
+        public void run(Runnable task) {
+            call(() -> {
+                task.run();
+                return null;
+            });
+        }
+
+        public <T> T call(Supplier<T> task) {
+            Snapshot previous = snapshot();
+            restore();
+            try {
+                return task.get();
+            } finally {
+                previous.restore();
+            }
+        }
+    }
 }
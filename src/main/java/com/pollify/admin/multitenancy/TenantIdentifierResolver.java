@@ -6,6 +6,10 @@ import org.springframework.stereotype.Component;
 /**
  * Resolves the current tenant schema for Hibernate using ThreadLocal storage.
  * Default schema is 'master'. Thread-safe for concurrent requests across all universities.
+ * Also correct on virtual threads: each request gets its own thread and TenantResolutionFilter
+ * clears the value, so nothing leaks between requests. Work handed to another thread
+ * (executors, scheduled jobs) does not inherit the tenant; carry it with
+ * TenantContext.snapshot()/wrap() or run it under TenantContext.runWithTenant().
  */
 @Component
 public class TenantIdentifierResolver implements CurrentTenantIdentifierResolver {
@@ -50,4 +54,22 @@ public class TenantIdentifierResolver implements CurrentTenantIdentifierResolver
     public static void clear() {
         currentTenant.remove();
     }
+
+    /**
+     * Raw value for this thread, null when nothing is set
+     */
+    static String peekCurrentTenant() {
+        return currentTenant.get();
+    }
+
+    /**
+     * Puts back a value returned by peekCurrentTenant()
+     */
+    static void restoreCurrentTenant(String tenant) {
+        if (tenant == null) {
+            currentTenant.remove();
+        } else {
+            currentTenant.set(tenant);
+        }
+    }
 }
@@ -3,7 +3,11 @@ package com.pollify.admin.repository.master;
 import com.pollify.admin.entity.master.PollifyTenant;
 import com.pollify.admin.entity.master.PollifyTenant.TenantStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -31,4 +35,24 @@ public interface PollifyTenantRepository extends JpaRepository<PollifyTenant, St
     
     // Count methods for statistics
     long countByTenantStatus(TenantStatus status);
+
+    /**
+     * Tenant owning an email domain, resolved through email_domain_index in one query
+     */
+    @Query("SELECT t FROM PollifyTenant t, EmailDomainIndex d WHERE d.tenantId = t.tenantId AND d.emailDomain = :emailDomain")
+    Optional<PollifyTenant> findByIndexedEmailDomain(@Param("emailDomain") String emailDomain);
+
+    /**
+     * Current admin password hash, read at login rather than trusting a cached copy
+     */
+    @Query("SELECT t.adminPasswordHash FROM PollifyTenant t WHERE t.tenantId = :tenantId")
+    Optional<String> findAdminPasswordHash(@Param("tenantId") String tenantId);
+
+    /**
+     * Stores a re-encoded admin password hash (PasswordHashingService upgrade on login)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE PollifyTenant t SET t.adminPasswordHash = :hash WHERE t.tenantId = :tenantId")
+    int updateAdminPasswordHash(@Param("tenantId") String tenantId, @Param("hash") String hash);
 }
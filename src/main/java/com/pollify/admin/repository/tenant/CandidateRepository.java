@@ -1,7 +1,12 @@
 package com.pollify.admin.repository.tenant;
 
 import com.pollify.admin.entity.tenant.Candidate;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -18,4 +23,19 @@ public interface CandidateRepository extends JpaRepository<Candidate, UUID> {
     List<Candidate> findByElectionIdOrderByVoteCountDesc(UUID electionId);
     
     long countByElectionId(UUID electionId);
+
+    /**
+     * Atomic in-database increment - no read-modify-write, so concurrent votes never lose updates
+     */
+    @Modifying
+    @Query("UPDATE Candidate c SET c.voteCount = COALESCE(c.voteCount, 0) + :delta WHERE c.id = :candidateId")
+    int incrementVoteCount(@Param("candidateId") UUID candidateId, @Param("delta") long delta);
+
+    /**
+     * Locks every candidate row of an election (in id order to avoid deadlocks).
+     * Any vote committed before the lock is granted has already applied its increment.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM Candidate c WHERE c.electionId = :electionId ORDER BY c.id")
+    List<Candidate> findByElectionIdForUpdate(@Param("electionId") UUID electionId);
 }
@@ -0,0 +1,125 @@
+package com.pollify.admin.repository.tenant;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Epic 7 - Story 7.2: Frozen final results in tenant schema.
+ * Must run inside a transaction so the tenant connection (search_path) is reused.
+ */
+@Repository
+public class FinalResultsRepository {
+
+    // Counts come from the vote table itself, so unflushed in-memory counters cannot skew them
+    private static final String MATERIALIZE_ROWS_SQL = """
+            WITH counts AS (
+                SELECT c.id, c.election_id, c.position, c.full_name, c.bio, c.image_url, COUNT(v.id) AS votes
+                FROM candidate c
+                LEFT JOIN vote v ON v.candidate_id = c.id
+                WHERE c.election_id = ?
+                GROUP BY c.id
+            ), ranked AS (
+                SELECT counts.*,
+                       SUM(votes) OVER (PARTITION BY position) AS position_votes,
+                       RANK() OVER (PARTITION BY position ORDER BY votes DESC) AS position_rank
+                FROM counts
+            )
+            INSERT INTO election_result (election_id, candidate_id, position, full_name, bio, image_url,
+                                         vote_count, position_votes, vote_percentage, position_rank, winner)
+            SELECT election_id, id, position, full_name, bio, image_url,
+                   votes, position_votes,
+                   CASE WHEN position_votes > 0 THEN ROUND(votes * 100.0 / position_votes, 2) ELSE 0 END,
+                   position_rank, position_rank = 1
+            FROM ranked
+            """;
+
+    private static final String FIND_SQL = """
+            SELECT s.election_id, s.title, s.total_votes, s.finalized_at,
+                   r.candidate_id, r.position, r.full_name, r.bio, r.image_url,
+                   r.vote_count, r.vote_percentage, r.position_rank, r.winner
+            FROM election_result_snapshot s
+            LEFT JOIN election_result r ON r.election_id = s.election_id
+            WHERE s.election_id = ?
+            ORDER BY r.position, r.position_rank, r.full_name
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public FinalResultsRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Freezes the election's results. A no-op if they are already frozen.
+     *
+     * @return true if this call wrote the snapshot
+     */
+    public boolean materialize(UUID electionId) {
+        int inserted = jdbcTemplate.update("""
+                INSERT INTO election_result_snapshot (election_id, title, total_votes, finalized_at)
+                SELECT e.id, e.title, (SELECT COUNT(*) FROM vote v WHERE v.election_id = e.id), now()
+                FROM election e
+                WHERE e.id = ?
+                ON CONFLICT (election_id) DO NOTHING
+                """, electionId);
+        if (inserted == 0) {
+            return false;
+        }
+        jdbcTemplate.update(MATERIALIZE_ROWS_SQL, electionId);
+        return true;
+    }
+
+    public Optional<FinalResults> findByElectionId(UUID electionId) {
+        FinalResults[] results = new FinalResults[1];
+        jdbcTemplate.query(FIND_SQL, rs -> {
+            if (results[0] == null) {
+                results[0] = new FinalResults(
+                        rs.getObject("election_id", UUID.class),
+                        rs.getString("title"),
+                        rs.getLong("total_votes"),
+                        rs.getObject("finalized_at", OffsetDateTime.class),
+                        new ArrayList<>());
+            }
+            UUID candidateId = rs.getObject("candidate_id", UUID.class);
+            if (candidateId != null) {
+                results[0].candidates().add(new FinalCandidateResult(
+                        candidateId,
+                        rs.getString("position"),
+                        rs.getString("full_name"),
+                        rs.getString("bio"),
+                        rs.getString("image_url"),
+                        rs.getLong("vote_count"),
+                        rs.getDouble("vote_percentage"),
+                        rs.getInt("position_rank"),
+                        rs.getBoolean("winner")));
+            }
+        }, electionId);
+        return Optional.ofNullable(results[0]);
+    }
+
+    public record FinalResults(
+            UUID electionId,
+            String title,
+            long totalVotes,
+            OffsetDateTime finalizedAt,
+            List<FinalCandidateResult> candidates) {
+    }
+
+    public record FinalCandidateResult(
+            UUID candidateId,
+            String position,
+            String fullName,
+            String bio,
+            String imageUrl,
+            long voteCount,
+            double votePercentage,
+            int rank,
+            boolean winner) {
+    }
+}
@@ -0,0 +1,106 @@
+package com.pollify.admin.repository.tenant;
+
+import com.pollify.admin.dto.voter.RegistrationTokenStats;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Bulk registration token writes and streaming reads for the tenant schema (code schools - Option B).
+ * Must run inside a transaction so the tenant connection (search_path) is reused
+ * and, for streaming reads, so PostgreSQL honours the fetch size with a cursor.
+ */
+@Repository
+public class RegistrationTokenBatchRepository {
+
+    // 3 bind parameters per row keeps a full chunk well below the 32767 parameter limit
+    private static final int MAX_ROWS_PER_STATEMENT = 5000;
+    private static final int FETCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public RegistrationTokenBatchRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Inserts AVAILABLE tokens of one generation run with multi-row INSERT statements;
+     * tokens that already exist are skipped
+     *
+     * @return the number of tokens actually inserted
+     */
+    public int insertIgnoringDuplicates(Collection<String> tokens, UUID batch, OffsetDateTime generatedAt) {
+        Timestamp generated = Timestamp.from(generatedAt.toInstant());
+        List<String> rows = new ArrayList<>(tokens);
+        int inserted = 0;
+
+        for (int from = 0; from < rows.size(); from += MAX_ROWS_PER_STATEMENT) {
+            List<String> chunk = rows.subList(from, Math.min(from + MAX_ROWS_PER_STATEMENT, rows.size()));
+
+            StringBuilder sql = new StringBuilder(
+                    "INSERT INTO registration_token (token, generation_batch, generated_at) VALUES ");
+            List<Object> params = new ArrayList<>(chunk.size() * 3);
+            for (int i = 0; i < chunk.size(); i++) {
+                sql.append(i == 0 ? "(?, ?, ?)" : ", (?, ?, ?)");
+                params.add(chunk.get(i));
+                params.add(batch);
+                params.add(generated);
+            }
+            sql.append(" ON CONFLICT (token) DO NOTHING");
+
+            inserted += jdbcTemplate.update(sql.toString(), params.toArray());
+        }
+
+        return inserted;
+    }
+
+    /**
+     * Streams tokens in generation order through a server-side cursor, one row at a time
+     *
+     * @param status AVAILABLE or USED, or null for all
+     * @param batch only the tokens of one generation run, or null for all
+     */
+    public void streamTokens(String status, UUID batch, RowCallbackHandler handler) {
+        StringBuilder sql = new StringBuilder(
+                "SELECT token, token_status, generated_at, used_at FROM registration_token WHERE 1 = 1");
+        List<Object> params = new ArrayList<>(2);
+        if (status != null) {
+            sql.append(" AND token_status = ?");
+            params.add(status);
+        }
+        if (batch != null) {
+            sql.append(" AND generation_batch = ?");
+            params.add(batch);
+        }
+        sql.append(" ORDER BY generated_at, token");
+
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql.toString());
+            statement.setFetchSize(FETCH_SIZE);
+            for (int i = 0; i < params.size(); i++) {
+                statement.setObject(i + 1, params.get(i));
+            }
+            return statement;
+        }, handler);
+    }
+
+    /**
+     * Total, used and available tokens in one aggregated query
+     */
+    public RegistrationTokenStats stats() {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*), "
+                        + "COUNT(*) FILTER (WHERE token_status = 'USED'), "
+                        + "COUNT(*) FILTER (WHERE token_status = 'AVAILABLE') "
+                        + "FROM registration_token",
+                (rs, rowNum) -> new RegistrationTokenStats(rs.getLong(1), rs.getLong(2), rs.getLong(3)));
+    }
+}
@@ -0,0 +1,115 @@
+package com.pollify.admin.repository.tenant;
+
+import com.pollify.admin.entity.tenant.Election;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Epic 7: Results read model in tenant schema.
+ * Election header and every candidate's count come back in one round trip,
+ * ordered by position and then by votes.
+ */
+@Repository
+public class ResultsReadRepository {
+
+    private static final String RESULTS_SQL = """
+            SELECT e.id, e.title, e.election_status,
+                   c.id AS candidate_id, c.full_name, c.position, c.bio, c.image_url,
+                   COALESCE(c.vote_count, 0) AS vote_count
+            FROM election e
+            LEFT JOIN candidate c ON c.election_id = e.id
+            WHERE e.id = ?
+            ORDER BY c.position, COALESCE(c.vote_count, 0) DESC, c.full_name
+            """;
+
+    // Hash of every column live results are built from; identical on every node
+    private static final String FINGERPRINT_SQL = """
+            SELECT e.election_status,
+                   md5(concat_ws('|', e.election_status, e.title, e.updated_at,
+                       string_agg(c.id || ':' || COALESCE(c.vote_count, 0) || ':' || COALESCE(c.updated_at::text, ''),
+                                  ',' ORDER BY c.id))) AS fingerprint
+            FROM election e
+            LEFT JOIN candidate c ON c.election_id = e.id
+            WHERE e.id = ?
+            GROUP BY e.id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ResultsReadRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public Optional<ElectionResults> findElectionResults(UUID electionId) {
+        ElectionResults[] results = new ElectionResults[1];
+        jdbcTemplate.query(RESULTS_SQL, rs -> {
+            if (results[0] == null) {
+                results[0] = new ElectionResults(
+                        rs.getObject("id", UUID.class),
+                        rs.getString("title"),
+                        Election.ElectionStatus.valueOf(rs.getString("election_status")),
+                        new ArrayList<>());
+            }
+            UUID candidateId = rs.getObject("candidate_id", UUID.class);
+            if (candidateId != null) {
+                results[0].candidates().add(new CandidateResult(
+                        candidateId,
+                        rs.getString("full_name"),
+                        rs.getString("position"),
+                        rs.getString("bio"),
+                        rs.getString("image_url"),
+                        rs.getLong("vote_count")));
+            }
+        }, electionId);
+        return Optional.ofNullable(results[0]);
+    }
+
+    /**
+     * Fingerprint of the election's stored results, which changes whenever a vote count,
+     * a candidate or the election itself changes, whichever node wrote it
+     */
+    public Optional<ResultsFingerprint> findResultsFingerprint(UUID electionId) {
+        return jdbcTemplate.query(FINGERPRINT_SQL,
+                        (rs, rowNum) -> new ResultsFingerprint(
+                                Election.ElectionStatus.valueOf(rs.getString("election_status")),
+                                rs.getString("fingerprint")),
+                        electionId)
+                .stream()
+                .findFirst();
+    }
+
+    /**
+     * Election header plus candidates ordered by position, then vote count descending
+     */
+    public record ElectionResults(
+            UUID electionId,
+            String title,
+            Election.ElectionStatus status,
+            List<CandidateResult> candidates) {
+
+        public long totalVotes() {
+            return candidates.stream().mapToLong(CandidateResult::voteCount).sum();
+        }
+    }
+
+    public record ResultsFingerprint(Election.ElectionStatus status, String value) {
+    }
+
+    public record CandidateResult(
+            UUID candidateId,
+            String fullName,
+            String position,
+            String bio,
+            String imageUrl,
+            long voteCount) {
+
+        public CandidateResult withVoteCount(long newVoteCount) {
+            return new CandidateResult(candidateId, fullName, position, bio, imageUrl, newVoteCount);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.pollify.admin.repository.tenant;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.Iterator;
+
+/**
+ * Bulk student list writes for the tenant schema (code schools - Option A).
+ * Rows are streamed with PostgreSQL COPY into a transaction-scoped staging table
+ * and merged into student_list with one INSERT ... SELECT.
+ * Must run inside a transaction so the tenant connection (search_path) is reused.
+ */
+@Repository
+public class StudentListImportRepository {
+
+    private static final int COPY_BUFFER_BYTES = 64 * 1024;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public StudentListImportRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Creates the staging table, dropped automatically at commit or rollback
+     */
+    public void createStagingTable() {
+        jdbcTemplate.execute(
+                "CREATE TEMP TABLE student_list_import (student_id VARCHAR(50) NOT NULL, full_name VARCHAR(200) NOT NULL) "
+                        + "ON COMMIT DROP");
+    }
+
+    /**
+     * Streams rows into the staging table with COPY, consuming the iterator as it goes
+     *
+     * @return the number of rows copied
+     */
+    public long copyIntoStaging(Iterator<StudentRow> rows) {
+        return jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            CopyIn copy = connection.unwrap(PGConnection.class).getCopyAPI()
+                    .copyIn("COPY student_list_import (student_id, full_name) FROM STDIN WITH (FORMAT csv)");
+            try {
+                ByteArrayOutputStream buffer = new ByteArrayOutputStream(COPY_BUFFER_BYTES + 1024);
+                while (rows.hasNext()) {
+                    StudentRow row = rows.next();
+                    buffer.writeBytes(csvLine(row).getBytes(StandardCharsets.UTF_8));
+                    if (buffer.size() >= COPY_BUFFER_BYTES) {
+                        copy.writeToCopy(buffer.toByteArray(), 0, buffer.size());
+                        buffer.reset();
+                    }
+                }
+                if (buffer.size() > 0) {
+                    copy.writeToCopy(buffer.toByteArray(), 0, buffer.size());
+                }
+                return copy.endCopy();
+            } finally {
+                if (copy.isActive()) {
+                    cancelQuietly(copy);
+                }
+            }
+        });
+    }
+
+    /**
+     * Replace mode: drops every student who has not registered yet.
+     * Registered students stay, since their row records which voter used the student ID.
+     */
+    public int deleteUnregistered() {
+        return jdbcTemplate.update("DELETE FROM student_list WHERE is_registered IS NOT TRUE");
+    }
+
+    /**
+     * Moves staged rows into student_list; student IDs already listed are left untouched
+     *
+     * @return the number of rows inserted
+     */
+    public int mergeStaging() {
+        return jdbcTemplate.update(
+                "INSERT INTO student_list (student_id, full_name) "
+                        + "SELECT student_id, full_name FROM student_list_import "
+                        + "ON CONFLICT (student_id) DO NOTHING");
+    }
+
+    private static String csvLine(StudentRow row) {
+        return quote(row.studentId()) + ',' + quote(row.fullName()) + '\n';
+    }
+
+    private static String quote(String value) {
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private static void cancelQuietly(CopyIn copy) {
+        try {
+            copy.cancelCopy();
+        } catch (SQLException ignored) {
+            // The transaction is rolled back anyway
+        }
+    }
+
+    public record StudentRow(String studentId, String fullName) {
+    }
+}
@@ -0,0 +1,173 @@
+package com.pollify.admin.repository.tenant;
+
+import com.pollify.admin.entity.tenant.Vote;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * JDBC batch writes for votes in tenant schema.
+ * Must run inside a transaction so the tenant connection (search_path) is reused.
+ */
+@Repository
+public class VoteBatchRepository {
+
+    // 6 bind parameters per row keeps a full chunk well below the 32767 parameter limit
+    private static final int MAX_ROWS_PER_STATEMENT = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public VoteBatchRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Inserts votes with multi-row INSERT statements.
+     * Each ballot, identified by (voter, election, voted_at), first claims its ballot row; a vote
+     * is only inserted if the ballot row it matches is its own, so a second ballot from the same
+     * voter is dropped while a ballot split across batches or replayed twice is still harmless.
+     * Rows rejected by the primary key or unique_voter_election_position are skipped as well.
+     *
+     * @return the candidate ID of every row that was actually inserted
+     */
+    public List<UUID> insertIgnoringDuplicates(List<Vote> votes) {
+        List<UUID> insertedCandidateIds = new ArrayList<>(votes.size());
+
+        for (int from = 0; from < votes.size(); from += MAX_ROWS_PER_STATEMENT) {
+            List<Vote> chunk = votes.subList(from, Math.min(from + MAX_ROWS_PER_STATEMENT, votes.size()));
+            claimBallots(chunk);
+
+            StringBuilder sql = new StringBuilder(
+                    "INSERT INTO vote (id, voter_id, election_id, candidate_id, position, voted_at) "
+                            + "SELECT v.id, v.voter_id, v.election_id, v.candidate_id, v.position, v.voted_at FROM (VALUES ");
+            List<Object> params = new ArrayList<>(chunk.size() * 6);
+            for (int i = 0; i < chunk.size(); i++) {
+                Vote vote = chunk.get(i);
+                sql.append(i == 0 ? "" : ", ").append(
+                        "(CAST(? AS uuid), CAST(? AS uuid), CAST(? AS uuid), CAST(? AS uuid), CAST(? AS varchar), CAST(? AS timestamptz))");
+                params.add(vote.getId());
+                params.add(vote.getVoterId());
+                params.add(vote.getElectionId());
+                params.add(vote.getCandidateId());
+                params.add(vote.getPosition());
+                params.add(Timestamp.from(vote.getVotedAt().toInstant()));
+            }
+            sql.append(") AS v(id, voter_id, election_id, candidate_id, position, voted_at)"
+                    + " JOIN ballot b ON b.voter_id = v.voter_id AND b.election_id = v.election_id AND b.cast_at = v.voted_at"
+                    + " ON CONFLICT DO NOTHING RETURNING candidate_id");
+
+            insertedCandidateIds.addAll(jdbcTemplate.query(
+                    sql.toString(),
+                    (rs, rowNum) -> rs.getObject(1, UUID.class),
+                    params.toArray()));
+        }
+
+        return insertedCandidateIds;
+    }
+
+    /**
+     * Share-locks those of the given elections that are not CLOSED. Closing an election updates
+     * its row, so it waits for this transaction and its final results include the votes written here;
+     * a writer that comes after the close no longer sees the election as open.
+     *
+     * @return the IDs of the elections that are still open
+     */
+    public Set<UUID> lockOpenElections(Collection<UUID> electionIds) {
+        if (electionIds.isEmpty()) {
+            return Set.of();
+        }
+        String placeholders = String.join(", ", Collections.nCopies(electionIds.size(), "?"));
+        return new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT id FROM election WHERE id IN (" + placeholders + ") AND election_status <> 'CLOSED' FOR SHARE",
+                UUID.class,
+                electionIds.toArray()));
+    }
+
+    /**
+     * Inserts one voter's ballot row and its votes as a single JDBC batch.
+     * A second ballot for the same election, or a duplicate selection, fails with a
+     * DataIntegrityViolationException.
+     */
+    public void insertBallot(List<Vote> votes) {
+        Vote first = votes.get(0);
+        jdbcTemplate.update(
+                "INSERT INTO ballot (voter_id, election_id, cast_at) VALUES (?, ?, ?)",
+                first.getVoterId(),
+                first.getElectionId(),
+                Timestamp.from(first.getVotedAt().toInstant()));
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO vote (id, voter_id, election_id, candidate_id, position, voted_at) VALUES (?, ?, ?, ?, ?, ?)",
+                votes,
+                votes.size(),
+                (ps, vote) -> {
+                    ps.setObject(1, vote.getId());
+                    ps.setObject(2, vote.getVoterId());
+                    ps.setObject(3, vote.getElectionId());
+                    ps.setObject(4, vote.getCandidateId());
+                    ps.setString(5, vote.getPosition());
+                    ps.setTimestamp(6, Timestamp.from(vote.getVotedAt().toInstant()));
+                });
+    }
+
+    /**
+     * Inserts a ballot row for every distinct (voter, election, voted_at) in the chunk;
+     * existing rows, whether this ballot's or an earlier one's, are left alone
+     */
+    private void claimBallots(List<Vote> chunk) {
+        Set<List<Object>> ballots = new LinkedHashSet<>();
+        for (Vote vote : chunk) {
+            ballots.add(List.of(vote.getVoterId(), vote.getElectionId(), Timestamp.from(vote.getVotedAt().toInstant())));
+        }
+
+        StringBuilder sql = new StringBuilder("INSERT INTO ballot (voter_id, election_id, cast_at) VALUES ");
+        List<Object> params = new ArrayList<>(ballots.size() * 3);
+        for (List<Object> ballot : ballots) {
+            sql.append(params.isEmpty() ? "(?, ?, ?)" : ", (?, ?, ?)");
+            params.addAll(ballot);
+        }
+        sql.append(" ON CONFLICT DO NOTHING");
+        jdbcTemplate.update(sql.toString(), params.toArray());
+    }
+
+    /**
+     * Adds per-candidate deltas to candidate.vote_count in a single statement.
+     *
+     * @return the new vote_count of every updated candidate
+     */
+    public Map<UUID, Long> incrementVoteCounts(Map<UUID, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return Map.of();
+        }
+
+        StringBuilder sql = new StringBuilder(
+                "UPDATE candidate AS c SET vote_count = COALESCE(c.vote_count, 0) + d.delta, updated_at = now() FROM (VALUES ");
+        List<Object> params = new ArrayList<>(deltas.size() * 2);
+        boolean first = true;
+        for (Map.Entry<UUID, Long> entry : deltas.entrySet()) {
+            sql.append(first ? "(CAST(? AS uuid), CAST(? AS bigint))" : ", (CAST(? AS uuid), CAST(? AS bigint))");
+            params.add(entry.getKey());
+            params.add(entry.getValue());
+            first = false;
+        }
+        sql.append(") AS d(id, delta) WHERE c.id = d.id RETURNING c.id, c.vote_count");
+
+        Map<UUID, Long> newCounts = new HashMap<>();
+        jdbcTemplate.query(sql.toString(),
+                rs -> {
+                    newCounts.put(rs.getObject(1, UUID.class), rs.getLong(2));
+                },
+                params.toArray());
+        return newCounts;
+    }
+}
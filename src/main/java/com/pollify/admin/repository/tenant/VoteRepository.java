@@ -2,8 +2,11 @@ package com.pollify.admin.repository.tenant;
 
 import com.pollify.admin.entity.tenant.Vote;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -17,4 +20,20 @@ public interface VoteRepository extends JpaRepository<Vote, UUID> {
     long countByElectionId(UUID electionId);
     
     long countByCandidateId(UUID candidateId);
+
+    @Query("SELECT v.voterId FROM Vote v WHERE v.electionId = :electionId")
+    List<UUID> findVoterIdsByElectionId(@Param("electionId") UUID electionId);
+
+    @Query("SELECT v.candidateId AS candidateId, COUNT(v) AS voteCount FROM Vote v " +
+           "WHERE v.electionId = :electionId GROUP BY v.candidateId")
+    List<CandidateVoteCount> countVotesByCandidate(@Param("electionId") UUID electionId);
+
+    /**
+     * Projection of vote table aggregates per candidate
+     */
+    interface CandidateVoteCount {
+        UUID getCandidateId();
+
+        Long getVoteCount();
+    }
 }
@@ -0,0 +1,45 @@
+package com.pollify.admin.repository.tenant;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * JDBC batch writes for voters in tenant schema.
+ * Must run inside a transaction so the tenant connection (search_path) is reused.
+ */
+@Repository
+public class VoterBatchRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public VoterBatchRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Writes buffered last_login values as one JDBC batch, in voter ID order so concurrent
+     * flushes lock rows in the same order. A newer value already stored is kept.
+     */
+    public void updateLastLogins(Map<UUID, OffsetDateTime> lastLogins) {
+        List<Map.Entry<UUID, OffsetDateTime>> rows = new ArrayList<>(lastLogins.entrySet());
+        rows.sort(Map.Entry.comparingByKey());
+
+        jdbcTemplate.batchUpdate(
+                "UPDATE voter SET last_login = ? WHERE id = ? AND (last_login IS NULL OR last_login < ?)",
+                rows,
+                rows.size(),
+                (ps, row) -> {
+                    Timestamp lastLogin = Timestamp.from(row.getValue().toInstant());
+                    ps.setTimestamp(1, lastLogin);
+                    ps.setObject(2, row.getKey());
+                    ps.setTimestamp(3, lastLogin);
+                });
+    }
+}
@@ -2,7 +2,11 @@ package com.pollify.admin.repository.tenant;
 
 import com.pollify.admin.entity.tenant.Voter;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 import java.util.UUID;
@@ -22,4 +26,12 @@ public interface VoterRepository extends JpaRepository<Voter, UUID> {
     boolean existsByStudentId(String studentId);
     
     long countByIsVerified(Boolean isVerified);
+
+    /**
+     * Stores a re-encoded password hash (PasswordHashingService upgrade on login)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Voter v SET v.passwordHash = :hash WHERE v.id = :id")
+    int updatePasswordHash(@Param("id") UUID id, @Param("hash") String hash);
 }
@@ -0,0 +1,7 @@
+package com.pollify.admin.security;
+
+/**
+ * Verified claims of a request's JWT, parsed once per request by JwtTokenProvider.resolveClaims
+ */
+public record JwtClaims(String email, String userId, String tenantId, String role) {
+}
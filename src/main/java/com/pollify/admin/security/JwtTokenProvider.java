@@ -2,31 +2,42 @@ package com.pollify.admin.security;
 
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * JWT token provider for generating and validating JWT tokens.
  * Each token carries tenantId claim for tenant routing.
+ * The parser is built once (it is immutable and thread-safe), and the security filters share
+ * one verified {@link JwtClaims} per request through {@link #resolveClaims(HttpServletRequest)}.
  */
 @Component
 @Slf4j
 public class JwtTokenProvider {
 
+    private static final String CLAIMS_ATTRIBUTE = JwtClaims.class.getName();
+
     private final SecretKey secretKey;
+    private final JwtParser parser;
     private final long expirationMs;
 
     public JwtTokenProvider(
             @Value("${jwt.secret}") String secret,
             @Value("${jwt.expiration}") long expirationMs) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
         this.expirationMs = expirationMs;
     }
 
@@ -83,12 +94,42 @@ public class JwtTokenProvider {
      * Validates JWT token
      */
     public boolean validateToken(String token) {
+        return parseToken(token).isPresent();
+    }
+
+    /**
+     * Verified claims of the request's bearer token, parsed on first use and cached
+     * as a request attribute for the rest of the filter chain
+     *
+     * @return empty if the request has no valid bearer token
+     */
+    public Optional<JwtClaims> resolveClaims(HttpServletRequest request) {
+        Object cached = request.getAttribute(CLAIMS_ATTRIBUTE);
+        if (cached instanceof Optional<?> claims) {
+            @SuppressWarnings("unchecked")
+            Optional<JwtClaims> resolved = (Optional<JwtClaims>) claims;
+            return resolved;
+        }
+
+        String bearerToken = request.getHeader("Authorization");
+        Optional<JwtClaims> claims = StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")
+                ? parseToken(bearerToken.substring(7))
+                : Optional.empty();
+        request.setAttribute(CLAIMS_ATTRIBUTE, claims);
+        return claims;
+    }
+
+    /**
+     * Verifies the token once and extracts every claim the application uses
+     */
+    public Optional<JwtClaims> parseToken(String token) {
         try {
-            Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token);
-            return true;
+            Claims claims = getClaims(token);
+            return Optional.of(new JwtClaims(
+                    claims.getSubject(),
+                    claims.get("userId", String.class),
+                    claims.get("tenantId", String.class),
+                    claims.get("role", String.class)));
         } catch (SecurityException ex) {
             log.error("Invalid JWT signature");
         } catch (MalformedJwtException ex) {
@@ -100,17 +141,13 @@ public class JwtTokenProvider {
         } catch (IllegalArgumentException ex) {
             log.error("JWT claims string is empty");
         }
-        return false;
+        return Optional.empty();
     }
 
     /**
      * Extracts all claims from JWT token
      */
     private Claims getClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parser.parseSignedClaims(token).getPayload();
     }
 }
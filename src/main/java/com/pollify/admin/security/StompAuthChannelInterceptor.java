@@ -0,0 +1,104 @@
+package com.pollify.admin.security;
+
+import com.pollify.admin.entity.master.UserRole;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.security.Principal;
+import java.util.Collections;
+
+/**
+ * Epic 7: Authenticates STOMP sessions and scopes subscriptions to the caller's tenant.
+ * /ws/** is open at the HTTP level, so the JWT travels in the CONNECT frame's Authorization
+ * header. Every SUBSCRIBE to /app/{tenantId}/... or /topic/{tenantId}/... must name the
+ * session's own tenant; only super admins may follow any tenant.
+ */
+@Component
+@Slf4j
+public class StompAuthChannelInterceptor implements ChannelInterceptor {
+
+    private static final String AUTHORIZATION_HEADER = "Authorization";
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtTokenProvider jwtTokenProvider;
+
+    public StompAuthChannelInterceptor(JwtTokenProvider jwtTokenProvider) {
+        this.jwtTokenProvider = jwtTokenProvider;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+
+        if (accessor.getCommand() == StompCommand.CONNECT) {
+            accessor.setUser(authenticate(accessor.getFirstNativeHeader(AUTHORIZATION_HEADER)));
+        } else if (accessor.getCommand() == StompCommand.SUBSCRIBE) {
+            authorizeSubscription(accessor.getUser(), accessor.getDestination());
+        }
+        return message;
+    }
+
+    private UsernamePasswordAuthenticationToken authenticate(String authorization) {
+        if (!StringUtils.hasText(authorization) || !authorization.startsWith(BEARER_PREFIX)) {
+            throw new BadCredentialsException("Missing bearer token on STOMP CONNECT");
+        }
+        JwtClaims claims = jwtTokenProvider.parseToken(authorization.substring(BEARER_PREFIX.length()))
+                .orElseThrow(() -> new BadCredentialsException("Invalid bearer token on STOMP CONNECT"));
+
+        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                claims.email(),
+                null,
+                Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + claims.role())));
+        authentication.setDetails(claims);
+        return authentication;
+    }
+
+    private void authorizeSubscription(Principal user, String destination) {
+        if (!(user instanceof UsernamePasswordAuthenticationToken authentication)
+                || !(authentication.getDetails() instanceof JwtClaims claims)) {
+            throw new AccessDeniedException("STOMP session is not authenticated");
+        }
+
+        String tenantId = tenantOf(destination);
+        if (UserRole.SUPER_ADMIN.name().equals(claims.role())) {
+            return;
+        }
+        if (tenantId == null || !tenantId.equals(claims.tenantId())) {
+            log.warn("Rejected subscription to {} for user: {} of tenant: {}", destination, claims.email(), claims.tenantId());
+            throw new AccessDeniedException("Cannot subscribe to another tenant's destination");
+        }
+    }
+
+    /**
+     * First path segment after the /app or /topic prefix, or null for any other destination
+     */
+    private static String tenantOf(String destination) {
+        if (destination == null) {
+            return null;
+        }
+        String path;
+        if (destination.startsWith("/topic/")) {
+            path = destination.substring("/topic/".length());
+        } else if (destination.startsWith("/app/")) {
+            path = destination.substring("/app/".length());
+        } else {
+            return null;
+        }
+        int end = path.indexOf('/');
+        return end > 0 ? path.substring(0, end) : null;
+    }
+}
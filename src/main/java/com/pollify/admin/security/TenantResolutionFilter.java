@@ -1,9 +1,9 @@
 package com.pollify.admin.security;
 
-import com.pollify.admin.entity.master.EmailDomainIndex;
+import com.pollify.admin.entity.master.PollifyTenant;
 import com.pollify.admin.multitenancy.TenantContext;
 import com.pollify.admin.multitenancy.TenantIdentifierResolver;
-import com.pollify.admin.repository.master.EmailDomainIndexRepository;
+import com.pollify.admin.service.TenantRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -11,7 +11,6 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
-import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
@@ -31,13 +30,13 @@ import java.util.Optional;
 public class TenantResolutionFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final EmailDomainIndexRepository emailDomainIndexRepository;
+    private final TenantRegistry tenantRegistry;
 
     public TenantResolutionFilter(
             JwtTokenProvider jwtTokenProvider,
-            EmailDomainIndexRepository emailDomainIndexRepository) {
+            TenantRegistry tenantRegistry) {
         this.jwtTokenProvider = jwtTokenProvider;
-        this.emailDomainIndexRepository = emailDomainIndexRepository;
+        this.tenantRegistry = tenantRegistry;
     }
 
     @Override
@@ -48,9 +47,9 @@ public class TenantResolutionFilter extends OncePerRequestFilter {
 
         try {
             // 1. Try to extract tenant from JWT token (authenticated requests)
-            String jwt = getJwtFromRequest(request);
-            if (jwt != null && jwtTokenProvider.validateToken(jwt)) {
-                String tenantId = jwtTokenProvider.getTenantIdFromToken(jwt);
+            Optional<JwtClaims> claims = jwtTokenProvider.resolveClaims(request);
+            if (claims.isPresent()) {
+                String tenantId = claims.get().tenantId();
                 if (tenantId != null && !tenantId.isEmpty()) {
                     TenantIdentifierResolver.setCurrentTenant(tenantId);
                     log.debug("Tenant resolved from JWT: {}", tenantId);
@@ -74,17 +73,6 @@ public class TenantResolutionFilter extends OncePerRequestFilter {
         }
     }
 
-    /**
-     * Extracts JWT token from Authorization header
-     */
-    private String getJwtFromRequest(HttpServletRequest request) {
-        String bearerToken = request.getHeader("Authorization");
-        if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
-            return bearerToken.substring(7);
-        }
-        return null;
-    }
-
     /**
      * Extracts email from request body for login requests
      * Note: This is a simplified version. In production, you might want to
@@ -103,17 +91,14 @@ public class TenantResolutionFilter extends OncePerRequestFilter {
     }
 
     /**
-     * Resolves tenant from email domain by looking up in master.email_domain_index
+     * Resolves tenant from email domain via the in-memory copy of master.email_domain_index
      */
     private void resolveTenantFromEmail(String email) {
         String domain = extractDomain(email);
         if (domain != null) {
-            // Query master schema for tenant
-            TenantIdentifierResolver.setCurrentTenant("master");
-            
-            Optional<EmailDomainIndex> indexOpt = emailDomainIndexRepository.findByEmailDomain(domain);
-            if (indexOpt.isPresent()) {
-                String tenantId = indexOpt.get().getTenantId();
+            Optional<PollifyTenant> tenantOpt = tenantRegistry.findByEmailDomain(domain);
+            if (tenantOpt.isPresent()) {
+                String tenantId = tenantOpt.get().getTenantId();
                 TenantIdentifierResolver.setCurrentTenant(tenantId);
                 log.debug("Tenant resolved from email domain {}: {}", domain, tenantId);
             } else {
@@ -2,166 +2,276 @@ package com.pollify.admin.service;
 
 import com.pollify.admin.dto.LoginRequest;
 import com.pollify.admin.dto.LoginResponse;
+import com.pollify.admin.dto.voter.VoterLoginRequest;
 import com.pollify.admin.entity.master.PollifyTenant;
 import com.pollify.admin.entity.master.User;
 import com.pollify.admin.entity.master.UserRole;
+import com.pollify.admin.entity.tenant.Voter;
 import com.pollify.admin.multitenancy.TenantContext;
 import com.pollify.admin.repository.master.PollifyTenantRepository;
 import com.pollify.admin.repository.master.UserRepository;
+import com.pollify.admin.repository.tenant.VoterRepository;
 import com.pollify.admin.security.JwtTokenProvider;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
 
 /**
  * Authentication service handling login for:
  * - Tenant Admin login (master schema)
  * - Super Admin login (master schema)
+ * - Voter login (tenant schema)
+ * No login is transactional: password verification may wait for the hashing pool, so every
+ * query and the optional re-hash write run in their own short transactions around it.
+ * Admin logins switch to the master context before the first of those opens, so their connections
+ * never count against the tenant that TenantResolutionFilter resolved for the request.
  */
 @Service
 @Slf4j
 public class AuthenticationService {
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
+    private final TenantRegistry tenantRegistry;
     private final PollifyTenantRepository tenantRepository;
     private final UserRepository userRepository;
+    private final VoterRepository voterRepository;
+    private final VoterLastLoginBuffer voterLastLoginBuffer;
 
     public AuthenticationService(
             JwtTokenProvider jwtTokenProvider,
-            PasswordEncoder passwordEncoder,
+            PasswordHashingService passwordHashingService,
+            TenantRegistry tenantRegistry,
             PollifyTenantRepository tenantRepository,
-            UserRepository userRepository) {
+            UserRepository userRepository,
+            VoterRepository voterRepository,
+            VoterLastLoginBuffer voterLastLoginBuffer) {
         this.jwtTokenProvider = jwtTokenProvider;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHashingService = passwordHashingService;
+        this.tenantRegistry = tenantRegistry;
         this.tenantRepository = tenantRepository;
         this.userRepository = userRepository;
+        this.voterRepository = voterRepository;
+        this.voterLastLoginBuffer = voterLastLoginBuffer;
     }
 
     /**
-     * Tenant Admin login — queries master.pollify_tenant directly.
+     * Tenant Admin login — looks up master.pollify_tenant through the in-memory TenantRegistry.
      * Tenant admins are stored in pollify_tenant (not the users table).
      */
-    @Transactional
     public LoginResponse loginTenantAdmin(LoginRequest request) {
         log.info("Tenant admin login attempt for email: {}", request.getEmail());
 
-        try {
-            TenantContext.setTenantId(null);
-
-            // Look up tenant by admin email
-            PollifyTenant tenant = tenantRepository.findByAdminEmail(request.getEmail())
-                    .orElseThrow(() -> new BadCredentialsException("Invalid credentials"));
-
-            // Validate password against stored hash
-            if (!passwordEncoder.matches(request.getPassword(), tenant.getAdminPasswordHash())) {
-                log.warn("Invalid password for tenant admin: {}", request.getEmail());
+        return TenantContext.callWithTenant(null, () -> {
+            // Look up tenant by admin email (tenant registry; the hash itself is read by primary key)
+            PollifyTenant tenant = tenantRegistry.findByAdminEmail(request.getEmail()).orElse(null);
+            if (tenant == null) {
+                passwordHashingService.matchesNone(request.getPassword());
                 throw new BadCredentialsException("Invalid credentials");
             }
-
-            // Check tenant status
-            if (tenant.getTenantStatus() != PollifyTenant.TenantStatus.ACTIVE) {
-                log.warn("Tenant {} is not active", tenant.getTenantId());
-                throw new BadCredentialsException("Your school account is not active. Please contact support.");
-            }
-
-            // Generate JWT token
-            String token = jwtTokenProvider.generateToken(
-                    tenant.getTenantId(),
-                    tenant.getAdminEmail(),
-                    tenant.getTenantId(),
-                    UserRole.TENANT_ADMIN.name()
-            );
-
-            log.info("Tenant admin login successful: {}", request.getEmail());
-
-            return new LoginResponse(
-                    token,
-                    tenant.getTenantId(),
-                    tenant.getAdminEmail(),
-                    tenant.getAdminFirstName(),
-                    tenant.getAdminLastName(),
-                    UserRole.TENANT_ADMIN.name(),
-                    tenant.getTenantId(),
-                    tenant.getUniversityName()
-            );
-        } finally {
-            TenantContext.clear();
-        }
+            return authenticateTenantAdmin(tenant, request);
+        });
     }
 
     /**
      * Unified login — auto-detects role (SUPER_ADMIN or TENANT_ADMIN).
      * Frontend calls this single endpoint; no need to guess which endpoint to hit.
+     * One credential lookup and exactly one hash verification per attempt: tenant admin emails
+     * are resolved from the TenantRegistry and their current hash read by primary key, any other
+     * email with a single master.users query, and unknown emails are verified against a dummy hash.
      */
-    @Transactional
     public LoginResponse login(LoginRequest request) {
-        TenantContext.setTenantId(null);
-        try {
-            // Try super admin first
-            try {
-                return loginSuperAdmin(request);
-            } catch (BadCredentialsException ignored) {
-                // Not a super admin — try tenant admin
+        log.info("Login attempt for email: {}", request.getEmail());
+
+        return TenantContext.callWithTenant(null, () -> {
+            PollifyTenant tenant = tenantRegistry.findByAdminEmail(request.getEmail()).orElse(null);
+            if (tenant != null) {
+                return authenticateTenantAdmin(tenant, request);
             }
-            // Try tenant admin
-            return loginTenantAdmin(request);
-        } finally {
-            TenantContext.clear();
-        }
+
+            User user = userRepository.findByEmailAndRole(request.getEmail(), UserRole.SUPER_ADMIN).orElse(null);
+            if (user != null) {
+                return authenticateSuperAdmin(user, request);
+            }
+
+            passwordHashingService.matchesNone(request.getPassword());
+            throw new BadCredentialsException("Invalid credentials");
+        });
     }
 
     /**
      * Super Admin login - queries master schema
      */
-    @Transactional
     public LoginResponse loginSuperAdmin(LoginRequest request) {
         log.info("Super admin login attempt for email: {}", request.getEmail());
-        
-        try {
-            // Set master context
-            TenantContext.setTenantId(null);
-            
+
+        return TenantContext.callWithTenant(null, () -> {
             // Find user with SUPER_ADMIN role
-            User user = userRepository.findByEmailAndRole(request.getEmail(), UserRole.SUPER_ADMIN)
-                    .orElseThrow(() -> new BadCredentialsException("Invalid credentials"));
+            User user = userRepository.findByEmailAndRole(request.getEmail(), UserRole.SUPER_ADMIN).orElse(null);
+            if (user == null) {
+                passwordHashingService.matchesNone(request.getPassword());
+                throw new BadCredentialsException("Invalid credentials");
+            }
+            return authenticateSuperAdmin(user, request);
+        });
+    }
 
-            // Validate password
-            if (!passwordEncoder.matches(request.getPassword(), user.getPasswordHash())) {
-                log.warn("Invalid password for super admin: {}", request.getEmail());
+    /**
+     * Voter login — the tenant comes from the school code, or else the email domain, both
+     * resolved by the TenantRegistry without a query; the voter is one tenant schema query.
+     * The tenant is set before the repository opens its own transaction.
+     * last_login is buffered by VoterLastLoginBuffer instead of written here.
+     */
+    public LoginResponse loginVoter(VoterLoginRequest request) {
+        log.info("Voter login attempt for email: {}", request.getEmail());
+
+        PollifyTenant tenant = resolveVoterTenant(request);
+        if (tenant == null || tenant.getTenantStatus() != PollifyTenant.TenantStatus.ACTIVE) {
+            passwordHashingService.matchesNone(request.getPassword());
+            throw new BadCredentialsException("Invalid credentials");
+        }
+        String tenantId = tenant.getTenantId();
+
+        TenantContext.Snapshot caller = TenantContext.snapshot();
+        TenantContext.setTenantId(tenantId);
+        try {
+            Voter voter = voterRepository.findByEmail(request.getEmail()).orElse(null);
+            if (voter == null) {
+                passwordHashingService.matchesNone(request.getPassword());
                 throw new BadCredentialsException("Invalid credentials");
             }
 
-            // Check if user is active
-            if (!user.getIsActive()) {
-                log.warn("User {} is not active", user.getEmail());
-                throw new BadCredentialsException("User account is not active");
+            if (!passwordHashingService.matches(request.getPassword(), voter.getPasswordHash())) {
+                log.warn("Invalid password for voter: {} in tenant: {}", request.getEmail(), tenantId);
+                throw new BadCredentialsException("Invalid credentials");
             }
 
-            // Generate JWT token with null tenant (master context)
+            // Re-hash with the current encoder/cost
+            passwordHashingService.upgradeEncoding(request.getPassword(), voter.getPasswordHash())
+                    .ifPresent(hash -> voterRepository.updatePasswordHash(voter.getId(), hash));
+
+            voterLastLoginBuffer.record(tenantId, voter.getId(), OffsetDateTime.now());
+
             String token = jwtTokenProvider.generateToken(
-                    user.getId().toString(),
-                    user.getEmail(),
-                    null,
-                    UserRole.SUPER_ADMIN.name()
+                    voter.getId().toString(),
+                    voter.getEmail(),
+                    tenantId,
+                    "VOTER"
             );
 
-            log.info("Super admin login successful: {}", user.getEmail());
+            log.info("Voter login successful: {} in tenant: {}", voter.getEmail(), tenantId);
 
             return new LoginResponse(
                     token,
-                    user.getId().toString(),
-                    user.getEmail(),
-                    user.getFirstName(),
-                    user.getLastName(),
-                    UserRole.SUPER_ADMIN.name(),
-                    null,
-                    "Pollify Platform"
+                    voter.getId().toString(),
+                    voter.getEmail(),
+                    voter.getFirstName(),
+                    voter.getLastName(),
+                    "VOTER",
+                    tenantId,
+                    tenant.getUniversityName()
             );
         } finally {
-            TenantContext.clear();
+            caller.restore();
+        }
+    }
+
+    private PollifyTenant resolveVoterTenant(VoterLoginRequest request) {
+        if (request.getSchoolCode() != null && !request.getSchoolCode().isBlank()) {
+            return tenantRegistry.findBySchoolCode(request.getSchoolCode()).orElse(null);
+        }
+        String email = request.getEmail();
+        return tenantRegistry.findByEmailDomain(email.substring(email.indexOf('@') + 1)).orElse(null);
+    }
+
+    private LoginResponse authenticateTenantAdmin(PollifyTenant tenant, LoginRequest request) {
+        // Validate password against the stored hash; the registry copy may predate a change made on another node
+        String passwordHash = tenantRepository.findAdminPasswordHash(tenant.getTenantId())
+                .orElseThrow(() -> new BadCredentialsException("Invalid credentials"));
+        if (!passwordHash.equals(tenant.getAdminPasswordHash())) {
+            tenantRegistry.invalidate();
+        }
+        if (!passwordHashingService.matches(request.getPassword(), passwordHash)) {
+            log.warn("Invalid password for tenant admin: {}", request.getEmail());
+            throw new BadCredentialsException("Invalid credentials");
         }
+
+        // Re-hash with the current encoder/cost; the registry copy is refreshed after commit
+        passwordHashingService.upgradeEncoding(request.getPassword(), passwordHash)
+                .ifPresent(hash -> {
+                    tenantRepository.updateAdminPasswordHash(tenant.getTenantId(), hash);
+                    tenantRegistry.invalidateAfterCommit();
+                });
+
+        // Check tenant status
+        if (tenant.getTenantStatus() != PollifyTenant.TenantStatus.ACTIVE) {
+            log.warn("Tenant {} is not active", tenant.getTenantId());
+            throw new BadCredentialsException("Your school account is not active. Please contact support.");
+        }
+
+        // Generate JWT token
+        String token = jwtTokenProvider.generateToken(
+                tenant.getTenantId(),
+                tenant.getAdminEmail(),
+                tenant.getTenantId(),
+                UserRole.TENANT_ADMIN.name()
+        );
+
+        log.info("Tenant admin login successful: {}", request.getEmail());
+
+        return new LoginResponse(
+                token,
+                tenant.getTenantId(),
+                tenant.getAdminEmail(),
+                tenant.getAdminFirstName(),
+                tenant.getAdminLastName(),
+                UserRole.TENANT_ADMIN.name(),
+                tenant.getTenantId(),
+                tenant.getUniversityName()
+        );
+    }
+
+    private LoginResponse authenticateSuperAdmin(User user, LoginRequest request) {
+        // Validate password
+        if (!passwordHashingService.matches(request.getPassword(), user.getPasswordHash())) {
+            log.warn("Invalid password for super admin: {}", request.getEmail());
+            throw new BadCredentialsException("Invalid credentials");
+        }
+
+        // Re-hash with the current encoder/cost
+        passwordHashingService.upgradeEncoding(request.getPassword(), user.getPasswordHash())
+                .ifPresent(hash -> {
+                    user.setPasswordHash(hash);
+                    userRepository.save(user);
+                });
+
+        // Check if user is active
+        if (!user.getIsActive()) {
+            log.warn("User {} is not active", user.getEmail());
+            throw new BadCredentialsException("User account is not active");
+        }
+
+        // Generate JWT token with null tenant (master context)
+        String token = jwtTokenProvider.generateToken(
+                user.getId().toString(),
+                user.getEmail(),
+                null,
+                UserRole.SUPER_ADMIN.name()
+        );
+
+        log.info("Super admin login successful: {}", user.getEmail());
+
+        return new LoginResponse(
+                token,
+                user.getId().toString(),
+                user.getEmail(),
+                user.getFirstName(),
+                user.getLastName(),
+                UserRole.SUPER_ADMIN.name(),
+                null,
+                "Pollify Platform"
+        );
     }
 }
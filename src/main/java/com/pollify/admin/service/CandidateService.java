@@ -26,14 +26,20 @@ public class CandidateService {
     private final CandidateRepository candidateRepository;
     private final ElectionRepository electionRepository;
     private final VoteRepository voteRepository;
+    private final ElectionSnapshotCache electionSnapshotCache;
+    private final ResultsVersionRegistry resultsVersionRegistry;
 
     public CandidateService(
             CandidateRepository candidateRepository,
             ElectionRepository electionRepository,
-            VoteRepository voteRepository) {
+            VoteRepository voteRepository,
+            ElectionSnapshotCache electionSnapshotCache,
+            ResultsVersionRegistry resultsVersionRegistry) {
         this.candidateRepository = candidateRepository;
         this.electionRepository = electionRepository;
         this.voteRepository = voteRepository;
+        this.electionSnapshotCache = electionSnapshotCache;
+        this.resultsVersionRegistry = resultsVersionRegistry;
     }
 
     /**
@@ -64,6 +70,7 @@ public class CandidateService {
         candidate.setVoteCount(0L);
 
         candidate = candidateRepository.save(candidate);
+        invalidateSnapshot(request.getElectionId());
 
         log.info("Candidate added: {} to election: {} in tenant: {}", 
                 candidate.getId(), request.getElectionId(), tenantId);
@@ -111,6 +118,7 @@ public class CandidateService {
         }
 
         candidateRepository.delete(candidate);
+        invalidateSnapshot(candidate.getElectionId());
         
         log.info("Candidate removed: {} from election: {}", candidateId, candidate.getElectionId());
     }
@@ -136,6 +144,7 @@ public class CandidateService {
         candidate.setImageUrl(request.getImageUrl());
 
         candidate = candidateRepository.save(candidate);
+        invalidateSnapshot(candidate.getElectionId());
 
         long totalVotes = voteRepository.countByElectionId(candidate.getElectionId());
         
@@ -144,6 +153,17 @@ public class CandidateService {
         return mapToResponse(candidate, totalVotes);
     }
 
+    /**
+     * Drops the election's cached vote-path snapshot and live results ETag once the change commits
+     */
+    private void invalidateSnapshot(UUID electionId) {
+        String tenantId = TenantContext.getTenantId();
+        if (tenantId != null) {
+            electionSnapshotCache.invalidateAfterCommit(tenantId, electionId);
+            resultsVersionRegistry.bumpAfterCommit(tenantId, electionId);
+        }
+    }
+
     /**
      * Map entity to response with vote percentage
      */
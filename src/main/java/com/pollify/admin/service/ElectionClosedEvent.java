@@ -0,0 +1,10 @@
+package com.pollify.admin.service;
+
+import java.util.UUID;
+
+/**
+ * Published when an election is closed. Listeners bound to the transaction only
+ * see it once the close is committed, and release per-election state.
+ */
+public record ElectionClosedEvent(String tenantId, UUID electionId) {
+}
@@ -0,0 +1,66 @@
+package com.pollify.admin.service;
+
+import com.pollify.admin.entity.master.PollifyTenant;
+import com.pollify.admin.multitenancy.TenantContext;
+import com.pollify.admin.repository.master.PollifyTenantRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Periodically closes ACTIVE elections whose end time has passed in every tenant schema.
+ * Closing freezes the final results (see FinalResultsService), so votes this node still
+ * holds in its write-behind queue are written first; a tenant whose queue cannot be written
+ * is retried on the next run instead of freezing incomplete results.
+ */
+@Component
+@Slf4j
+public class ElectionLifecycleJob {
+
+    @Value("${pollify.elections.auto-close.enabled:true}")
+    private boolean enabled;
+
+    private final PollifyTenantRepository tenantRepository;
+    private final ElectionService electionService;
+    private final VoteIngestionService voteIngestionService;
+
+    public ElectionLifecycleJob(
+            PollifyTenantRepository tenantRepository,
+            ElectionService electionService,
+            VoteIngestionService voteIngestionService) {
+        this.tenantRepository = tenantRepository;
+        this.electionService = electionService;
+        this.voteIngestionService = voteIngestionService;
+    }
+
+    @Scheduled(fixedDelayString = "${pollify.elections.auto-close.interval-ms:60000}")
+    public void closeExpiredElections() {
+        if (!enabled) {
+            return;
+        }
+
+        // Query the tenant registry in the master context
+        List<PollifyTenant> tenants = TenantContext.callWithTenant(null, () -> tenantRepository.findAll());
+
+        for (PollifyTenant tenant : tenants) {
+            TenantContext.Snapshot caller = TenantContext.snapshot();
+            TenantContext.setTenantId(tenant.getDatabaseSchema());
+            try {
+                if (!voteIngestionService.flushTenant(tenant.getDatabaseSchema())) {
+                    log.warn("Not closing elections for tenant: {} until its queued votes are written",
+                            tenant.getTenantId());
+                    continue;
+                }
+                electionService.autoCloseExpiredElections();
+            } catch (Exception e) {
+                log.error("Auto-closing elections failed for tenant: {}", tenant.getTenantId(), e);
+                // Continue with other tenants even if one fails
+            } finally {
+                caller.restore();
+            }
+        }
+    }
+}
@@ -2,12 +2,14 @@ package com.pollify.admin.service;
 
 import com.pollify.admin.dto.election.CreateElectionRequest;
 import com.pollify.admin.dto.election.ElectionResponse;
+import com.pollify.admin.dto.election.VoterIndexStats;
 import com.pollify.admin.entity.tenant.Election;
 import com.pollify.admin.multitenancy.TenantContext;
 import com.pollify.admin.repository.tenant.CandidateRepository;
 import com.pollify.admin.repository.tenant.ElectionRepository;
 import com.pollify.admin.repository.tenant.VoteRepository;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,14 +28,29 @@ public class ElectionService {
     private final ElectionRepository electionRepository;
     private final CandidateRepository candidateRepository;
     private final VoteRepository voteRepository;
+    private final VoterBallotIndex voterBallotIndex;
+    private final ElectionSnapshotCache electionSnapshotCache;
+    private final FinalResultsService finalResultsService;
+    private final ResultsVersionRegistry resultsVersionRegistry;
+    private final ApplicationEventPublisher eventPublisher;
 
     public ElectionService(
             ElectionRepository electionRepository,
             CandidateRepository candidateRepository,
-            VoteRepository voteRepository) {
+            VoteRepository voteRepository,
+            VoterBallotIndex voterBallotIndex,
+            ElectionSnapshotCache electionSnapshotCache,
+            FinalResultsService finalResultsService,
+            ResultsVersionRegistry resultsVersionRegistry,
+            ApplicationEventPublisher eventPublisher) {
         this.electionRepository = electionRepository;
         this.candidateRepository = candidateRepository;
         this.voteRepository = voteRepository;
+        this.voterBallotIndex = voterBallotIndex;
+        this.electionSnapshotCache = electionSnapshotCache;
+        this.finalResultsService = finalResultsService;
+        this.resultsVersionRegistry = resultsVersionRegistry;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -88,6 +105,13 @@ public class ElectionService {
         election.setElectionStatus(Election.ElectionStatus.ACTIVE);
         election = electionRepository.save(election);
 
+        // Warm the has-voted index before the first ballot arrives
+        String tenantId = TenantContext.getTenantId();
+        if (tenantId != null) {
+            voterBallotIndex.warm(tenantId, electionId);
+        }
+        invalidateSnapshot(electionId);
+
         log.info("Election activated: {}", electionId);
 
         return mapToResponse(election);
@@ -139,6 +163,7 @@ public class ElectionService {
         election.setEndTime(request.getEndTime());
 
         election = electionRepository.save(election);
+        invalidateSnapshot(electionId);
 
         log.info("Election updated: {}", electionId);
 
@@ -157,12 +182,49 @@ public class ElectionService {
             if (election.getEndTime().isBefore(now)) {
                 election.setElectionStatus(Election.ElectionStatus.CLOSED);
                 election.setClosedAt(now);
-                electionRepository.save(election);
+                // Flushed now: the row lock waits for write-behind batches still adding votes
+                // and keeps later ones out (VoteBatchRepository#lockOpenElections)
+                electionRepository.saveAndFlush(election);
+                invalidateSnapshot(election.getId());
+
+                // Epic 7 - Story 7.2: Freeze final results in the same transaction
+                finalResultsService.materialize(election.getId());
+
+                // Per-election caches and counters are released once the close commits
+                String tenantId = TenantContext.getTenantId();
+                if (tenantId != null) {
+                    eventPublisher.publishEvent(new ElectionClosedEvent(tenantId, election.getId()));
+                }
                 log.info("Auto-closed election: {}", election.getId());
             }
         }
     }
 
+    /**
+     * Memory footprint of the election's has-voted index
+     */
+    public VoterIndexStats getVoterIndexStats(UUID electionId) {
+        String tenantId = TenantContext.getTenantId();
+        if (tenantId == null) {
+            throw new IllegalStateException("Tenant context not set");
+        }
+        if (!electionRepository.existsById(electionId)) {
+            throw new IllegalArgumentException("Election not found");
+        }
+        return voterBallotIndex.stats(tenantId, electionId);
+    }
+
+    /**
+     * Drops the cached vote-path snapshot and the live results ETag once the change commits
+     */
+    private void invalidateSnapshot(UUID electionId) {
+        String tenantId = TenantContext.getTenantId();
+        if (tenantId != null) {
+            electionSnapshotCache.invalidateAfterCommit(tenantId, electionId);
+            resultsVersionRegistry.bumpAfterCommit(tenantId, electionId);
+        }
+    }
+
     /**
      * Map entity to response
      */
@@ -0,0 +1,66 @@
+package com.pollify.admin.service;
+
+import com.pollify.admin.entity.tenant.Election;
+
+import java.time.OffsetDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Immutable view of the election fields the vote path validates against
+ */
+public record ElectionSnapshot(
+        UUID electionId,
+        Election.ElectionStatus status,
+        OffsetDateTime startTime,
+        OffsetDateTime endTime,
+        Map<UUID, String> candidatePositions,
+        long loadedAt) {
+
+    public boolean hasCandidate(UUID candidateId) {
+        return candidatePositions.containsKey(candidateId);
+    }
+
+    /**
+     * @return the position the candidate runs for, or null if not a candidate in this election
+     */
+    public String positionOf(UUID candidateId) {
+        return candidatePositions.get(candidateId);
+    }
+
+    /**
+     * Verifies the election is ACTIVE and inside its voting window
+     */
+    public void requireVotingOpen(OffsetDateTime now) {
+        if (status != Election.ElectionStatus.ACTIVE) {
+            throw new IllegalArgumentException("This election is not active");
+        }
+        if (now.isBefore(startTime)) {
+            throw new IllegalArgumentException("Voting has not started yet");
+        }
+        if (now.isAfter(endTime)) {
+            throw new IllegalArgumentException("Voting has ended");
+        }
+    }
+
+    /**
+     * Validates a ballot: every candidate belongs to this election, at most one per position
+     *
+     * @return candidate ID by position, in ballot order
+     */
+    public Map<String, UUID> ballotSelections(List<UUID> candidateIds) {
+        Map<String, UUID> selections = new LinkedHashMap<>();
+        for (UUID candidateId : candidateIds) {
+            String position = positionOf(candidateId);
+            if (position == null) {
+                throw new IllegalArgumentException("Candidate does not belong to this election");
+            }
+            if (selections.putIfAbsent(position, candidateId) != null) {
+                throw new IllegalArgumentException("Only one candidate can be selected for position: " + position);
+            }
+        }
+        return selections;
+    }
+}
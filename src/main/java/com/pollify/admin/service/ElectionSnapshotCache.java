@@ -0,0 +1,157 @@
+package com.pollify.admin.service;
+
+import com.pollify.admin.entity.tenant.Candidate;
+import com.pollify.admin.entity.tenant.Election;
+import com.pollify.admin.repository.tenant.CandidateRepository;
+import com.pollify.admin.repository.tenant.ElectionRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Epic 6: Per-tenant cache of {@link ElectionSnapshot}s so casting a vote needs no
+ * election or candidate reads. ElectionService and CandidateService invalidate an
+ * election when they change it; the max age only bounds staleness for changes made
+ * by another node. Loads run outside any map lock: the first caller of a missing key
+ * publishes a future and loads it, concurrent callers wait on that future.
+ */
+@Component
+public class ElectionSnapshotCache {
+
+    private final ElectionRepository electionRepository;
+    private final CandidateRepository candidateRepository;
+
+    @Value("${pollify.voting.election-snapshot.max-age-ms:60000}")
+    private long maxAgeMs;
+
+    // tenant -> election -> snapshot, possibly still loading
+    private final Map<String, Map<UUID, CompletableFuture<ElectionSnapshot>>> tenants = new ConcurrentHashMap<>();
+
+    // tenant -> invalidation count, so a load that overlaps an invalidation is not cached
+    private final Map<String, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    public ElectionSnapshotCache(
+            ElectionRepository electionRepository,
+            CandidateRepository candidateRepository) {
+        this.electionRepository = electionRepository;
+        this.candidateRepository = candidateRepository;
+    }
+
+    /**
+     * Returns the cached snapshot, loading it in the current tenant context on a miss
+     *
+     * @throws IllegalArgumentException if the election does not exist
+     */
+    public ElectionSnapshot get(String tenantId, UUID electionId) {
+        Map<UUID, CompletableFuture<ElectionSnapshot>> snapshots =
+                tenants.computeIfAbsent(tenantId, id -> new ConcurrentHashMap<>());
+        while (true) {
+            CompletableFuture<ElectionSnapshot> loading = new CompletableFuture<>();
+            CompletableFuture<ElectionSnapshot> current = snapshots.putIfAbsent(electionId, loading);
+            if (current == null) {
+                return load(tenantId, electionId, snapshots, loading);
+            }
+            ElectionSnapshot snapshot = await(current);
+            if (snapshot != null && !isExpired(snapshot)) {
+                return snapshot;
+            }
+            // Expired or failed: drop it (unless someone already has) and retry
+            snapshots.remove(electionId, current);
+        }
+    }
+
+    /**
+     * Drops the election's snapshot once the surrounding transaction commits
+     */
+    public void invalidateAfterCommit(String tenantId, UUID electionId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate(tenantId, electionId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidate(tenantId, electionId);
+            }
+        });
+    }
+
+    public void invalidate(String tenantId, UUID electionId) {
+        version(tenantId).incrementAndGet();
+        Map<UUID, CompletableFuture<ElectionSnapshot>> snapshots = tenants.get(tenantId);
+        if (snapshots != null) {
+            snapshots.remove(electionId);
+        }
+    }
+
+    private boolean isExpired(ElectionSnapshot snapshot) {
+        return snapshot.loadedAt() + maxAgeMs < System.currentTimeMillis();
+    }
+
+    /**
+     * Loads the snapshot for a future this caller published. If the election was invalidated
+     * while loading, the result is returned to the waiting callers but not kept, so a snapshot
+     * read just before a commit can never outlive its invalidation.
+     */
+    private ElectionSnapshot load(
+            String tenantId,
+            UUID electionId,
+            Map<UUID, CompletableFuture<ElectionSnapshot>> snapshots,
+            CompletableFuture<ElectionSnapshot> loading) {
+        long version = version(tenantId).get();
+        ElectionSnapshot snapshot;
+        try {
+            snapshot = read(electionId);
+        } catch (RuntimeException e) {
+            snapshots.remove(electionId, loading);
+            loading.completeExceptionally(e);
+            throw e;
+        }
+        loading.complete(snapshot);
+        if (version(tenantId).get() != version) {
+            snapshots.remove(electionId, loading);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Waits for another caller's load; a failed load yields null so the caller retries it
+     */
+    private ElectionSnapshot await(CompletableFuture<ElectionSnapshot> loading) {
+        try {
+            return loading.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IllegalArgumentException notFound) {
+                throw notFound;
+            }
+            return null;
+        }
+    }
+
+    private AtomicLong version(String tenantId) {
+        return versions.computeIfAbsent(tenantId, id -> new AtomicLong());
+    }
+
+    private ElectionSnapshot read(UUID electionId) {
+        Election election = electionRepository.findById(electionId)
+                .orElseThrow(() -> new IllegalArgumentException("Election not found"));
+        Map<UUID, String> candidatePositions = candidateRepository.findByElectionId(electionId).stream()
+                .collect(Collectors.toUnmodifiableMap(Candidate::getId, Candidate::getPosition));
+        return new ElectionSnapshot(
+                electionId,
+                election.getElectionStatus(),
+                election.getStartTime(),
+                election.getEndTime(),
+                candidatePositions,
+                System.currentTimeMillis());
+    }
+}
@@ -0,0 +1,167 @@
+package com.pollify.admin.service;
+
+import com.pollify.admin.dto.election.CandidateResponse;
+import com.pollify.admin.dto.results.LiveResultsResponse;
+import com.pollify.admin.dto.results.PositionResultsResponse;
+import com.pollify.admin.entity.tenant.Election;
+import com.pollify.admin.multitenancy.TenantContext;
+import com.pollify.admin.repository.tenant.ElectionRepository;
+import com.pollify.admin.repository.tenant.FinalResultsRepository;
+import com.pollify.admin.repository.tenant.FinalResultsRepository.FinalCandidateResult;
+import com.pollify.admin.repository.tenant.FinalResultsRepository.FinalResults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Epic 7 - Story 7.2: Frozen final results.
+ * Closing an election materializes its totals, percentages, ranks and winners per position
+ * into election_result. They are then served from memory with a strong ETag, so the
+ * post-close burst is absorbed by HTTP caching and never reaches the live tables.
+ */
+@Service
+@Slf4j
+public class FinalResultsService {
+
+    private final FinalResultsRepository finalResultsRepository;
+    private final ElectionRepository electionRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${pollify.results.final.max-age-seconds:86400}")
+    private long maxAgeSeconds;
+
+    @Value("${pollify.results.final.shared-cache:false}")
+    private boolean sharedCache;
+
+    // tenant:election -> frozen results; immutable, so never invalidated
+    private final Map<String, FrozenResults> frozen = new ConcurrentHashMap<>();
+
+    public FinalResultsService(
+            FinalResultsRepository finalResultsRepository,
+            ElectionRepository electionRepository,
+            TransactionTemplate transactionTemplate) {
+        this.finalResultsRepository = finalResultsRepository;
+        this.electionRepository = electionRepository;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * Freezes the election's results. Must run in the transaction that closes it,
+     * after the CLOSED status has been flushed.
+     */
+    public void materialize(UUID electionId) {
+        if (finalResultsRepository.materialize(electionId)) {
+            log.info("Final results materialized for election: {}", electionId);
+        }
+    }
+
+    /**
+     * Epic 7 - Story 7.2: Final results of a closed election
+     */
+    public FrozenResults getFinalResults(UUID electionId) {
+        return findFinalResults(electionId)
+                .orElseThrow(() -> new IllegalArgumentException("Final results are only available for closed elections"));
+    }
+
+    /**
+     * @return the frozen results, or empty while the election is not closed
+     */
+    public Optional<FrozenResults> findFinalResults(UUID electionId) {
+        String tenantId = TenantContext.getTenantId();
+        if (tenantId == null) {
+            throw new IllegalStateException("Tenant context not set");
+        }
+
+        String key = tenantId + ":" + electionId;
+        FrozenResults cached = frozen.get(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        Optional<FinalResults> results = transactionTemplate.execute(status -> loadOrMaterialize(electionId));
+        results.ifPresent(found -> frozen.putIfAbsent(key, toFrozenResults(found)));
+        return Optional.ofNullable(frozen.get(key));
+    }
+
+    public CacheControl cacheControl() {
+        CacheControl cacheControl = CacheControl.maxAge(Duration.ofSeconds(maxAgeSeconds));
+        return sharedCache ? cacheControl.cachePublic() : cacheControl.cachePrivate();
+    }
+
+    private Optional<FinalResults> loadOrMaterialize(UUID electionId) {
+        Optional<FinalResults> results = finalResultsRepository.findByElectionId(electionId);
+        if (results.isPresent()) {
+            return results;
+        }
+
+        Election election = electionRepository.findById(electionId)
+                .orElseThrow(() -> new IllegalArgumentException("Election not found"));
+        if (election.getElectionStatus() != Election.ElectionStatus.CLOSED) {
+            return Optional.empty();
+        }
+
+        // Closed before results were frozen on close
+        materialize(electionId);
+        return finalResultsRepository.findByElectionId(electionId);
+    }
+
+    private FrozenResults toFrozenResults(FinalResults results) {
+        String electionId = results.electionId().toString();
+
+        List<CandidateResponse> candidates = results.candidates().stream()
+                .map(candidate -> mapCandidateToResponse(electionId, candidate))
+                .collect(Collectors.toList());
+
+        Map<String, Long> positionTotals = new LinkedHashMap<>();
+        Map<String, Integer> candidateCounts = new LinkedHashMap<>();
+        results.candidates().forEach(candidate -> {
+            positionTotals.merge(candidate.position(), candidate.voteCount(), Long::sum);
+            candidateCounts.merge(candidate.position(), 1, Integer::sum);
+        });
+        List<PositionResultsResponse> positions = positionTotals.entrySet().stream()
+                .map(entry -> new PositionResultsResponse(
+                        entry.getKey(), entry.getValue(), candidateCounts.get(entry.getKey())))
+                .collect(Collectors.toList());
+
+        LiveResultsResponse response = new LiveResultsResponse(
+                electionId,
+                results.title(),
+                Election.ElectionStatus.CLOSED.name(),
+                results.totalVotes(),
+                candidates,
+                positions,
+                results.finalizedAt());
+
+        List<CandidateResponse> winners = results.candidates().stream()
+                .filter(FinalCandidateResult::winner)
+                .map(candidate -> mapCandidateToResponse(electionId, candidate))
+                .collect(Collectors.toList());
+
+        String etag = "\"final-" + electionId + "-" + results.finalizedAt().toInstant().toEpochMilli() + "\"";
+        return new FrozenResults(etag, response, winners);
+    }
+
+    private CandidateResponse mapCandidateToResponse(String electionId, FinalCandidateResult candidate) {
+        return new CandidateResponse(
+                candidate.candidateId().toString(),
+                electionId,
+                candidate.fullName(),
+                candidate.position(),
+                candidate.bio(),
+                candidate.imageUrl(),
+                candidate.voteCount(),
+                candidate.votePercentage()
+        );
+    }
+}
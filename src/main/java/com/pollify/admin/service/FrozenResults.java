@@ -0,0 +1,12 @@
+package com.pollify.admin.service;
+
+import com.pollify.admin.dto.election.CandidateResponse;
+import com.pollify.admin.dto.results.LiveResultsResponse;
+
+import java.util.List;
+
+/**
+ * Final results of a closed election with their strong ETag. Never changes once built.
+ */
+public record FrozenResults(String etag, LiveResultsResponse results, List<CandidateResponse> winners) {
+}
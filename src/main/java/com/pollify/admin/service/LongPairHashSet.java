@@ -0,0 +1,188 @@
+package com.pollify.admin.service;
+
+import java.util.UUID;
+
+/**
+ * Compact open-addressing hash set of 128-bit keys (e.g. UUIDs) stored as primitive long pairs.
+ * Each slot costs 16 bytes with no per-entry object, versus roughly 80 bytes for a
+ * HashSet&lt;UUID&gt; entry. At the 0.7 maximum load factor, 100k keys occupy 262,144 slots
+ * (4 MiB). Not thread-safe - callers synchronize.
+ */
+public final class LongPairHashSet {
+
+    private static final float MAX_LOAD_FACTOR = 0.7f;
+    private static final int MIN_CAPACITY = 16;
+
+    // Interleaved (high, low) pairs; (0, 0) marks an empty slot
+    private long[] slots;
+    private int mask;
+    private int size;
+    private boolean containsZero;
+
+    public LongPairHashSet() {
+        this(MIN_CAPACITY);
+    }
+
+    public LongPairHashSet(int expectedSize) {
+        int capacity = tableSizeFor((int) Math.ceil(Math.max(expectedSize, 1) / MAX_LOAD_FACTOR));
+        this.slots = new long[capacity * 2];
+        this.mask = capacity - 1;
+    }
+
+    public boolean add(UUID key) {
+        return add(key.getMostSignificantBits(), key.getLeastSignificantBits());
+    }
+
+    public boolean contains(UUID key) {
+        return contains(key.getMostSignificantBits(), key.getLeastSignificantBits());
+    }
+
+    public boolean remove(UUID key) {
+        return remove(key.getMostSignificantBits(), key.getLeastSignificantBits());
+    }
+
+    /**
+     * @return true if the key was not already present
+     */
+    public boolean add(long high, long low) {
+        if (high == 0 && low == 0) {
+            if (containsZero) {
+                return false;
+            }
+            containsZero = true;
+            size++;
+            return true;
+        }
+
+        int index = indexOf(high, low);
+        while (!isEmpty(index)) {
+            if (slots[index * 2] == high && slots[index * 2 + 1] == low) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+
+        slots[index * 2] = high;
+        slots[index * 2 + 1] = low;
+        if (++size > (mask + 1) * MAX_LOAD_FACTOR) {
+            resize();
+        }
+        return true;
+    }
+
+    public boolean contains(long high, long low) {
+        if (high == 0 && low == 0) {
+            return containsZero;
+        }
+
+        int index = indexOf(high, low);
+        while (!isEmpty(index)) {
+            if (slots[index * 2] == high && slots[index * 2 + 1] == low) {
+                return true;
+            }
+            index = (index + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * @return true if the key was present
+     */
+    public boolean remove(long high, long low) {
+        if (high == 0 && low == 0) {
+            if (!containsZero) {
+                return false;
+            }
+            containsZero = false;
+            size--;
+            return true;
+        }
+
+        int index = indexOf(high, low);
+        while (!isEmpty(index)) {
+            if (slots[index * 2] == high && slots[index * 2 + 1] == low) {
+                deleteAndCloseGap(index);
+                size--;
+                return true;
+            }
+            index = (index + 1) & mask;
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * Bytes held by the slot table (object headers excluded)
+     */
+    public long memoryBytes() {
+        return (long) slots.length * Long.BYTES;
+    }
+
+    /**
+     * Backward-shift deletion keeps linear probe chains intact without tombstones
+     */
+    private void deleteAndCloseGap(int gap) {
+        int index = gap;
+        while (true) {
+            index = (index + 1) & mask;
+            if (isEmpty(index)) {
+                break;
+            }
+            int home = indexOf(slots[index * 2], slots[index * 2 + 1]);
+            // Move the entry back if its home slot is not in (gap, index]
+            boolean movable = gap <= index ? (home <= gap || home > index) : (home <= gap && home > index);
+            if (movable) {
+                slots[gap * 2] = slots[index * 2];
+                slots[gap * 2 + 1] = slots[index * 2 + 1];
+                gap = index;
+            }
+        }
+        slots[gap * 2] = 0;
+        slots[gap * 2 + 1] = 0;
+    }
+
+    private void resize() {
+        long[] old = slots;
+        int capacity = (mask + 1) * 2;
+        slots = new long[capacity * 2];
+        mask = capacity - 1;
+
+        for (int i = 0; i < old.length; i += 2) {
+            long high = old[i];
+            long low = old[i + 1];
+            if (high != 0 || low != 0) {
+                int index = indexOf(high, low);
+                while (!isEmpty(index)) {
+                    index = (index + 1) & mask;
+                }
+                slots[index * 2] = high;
+                slots[index * 2 + 1] = low;
+            }
+        }
+    }
+
+    private boolean isEmpty(int index) {
+        return slots[index * 2] == 0 && slots[index * 2 + 1] == 0;
+    }
+
+    private int indexOf(long high, long low) {
+        // Random UUIDs are already well distributed; the mix guards against sequential IDs
+        long hash = high * 0x9E3779B97F4A7C15L ^ low;
+        hash ^= hash >>> 32;
+        hash *= 0xBF58476D1CE4E5B9L;
+        hash ^= hash >>> 29;
+        return (int) hash & mask;
+    }
+
+    private static int tableSizeFor(int minCapacity) {
+        int capacity = Integer.highestOneBit(Math.max(minCapacity - 1, MIN_CAPACITY - 1)) << 1;
+        return Math.max(capacity, MIN_CAPACITY);
+    }
+}
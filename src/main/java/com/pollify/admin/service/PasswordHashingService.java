@@ -0,0 +1,160 @@
+package com.pollify.admin.service;
+
+import com.pollify.admin.dto.PasswordHashingStats;
+import com.pollify.admin.exception.PasswordHashingBusyException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Runs every password hash and verification on a bounded pool sized to the CPU budget for hashing.
+ * At registration peaks BCrypt work queues there instead of occupying every request thread, and
+ * once the queue is full, or a caller has waited pollify.security.password.max-wait-ms, requests
+ * are shed with {@link PasswordHashingBusyException} (503) rather than timing out everywhere.
+ * A shed request that is still queued never runs, but one already hashing cannot be interrupted:
+ * it finishes on the pool and is counted as abandoned. Callers hash before opening a transaction,
+ * so time spent waiting here never holds a pooled connection.
+ * Hashes written by an older encoder or cost are re-encoded on successful login.
+ */
+@Service
+@Slf4j
+public class PasswordHashingService {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolTaskExecutor hashingExecutor;
+
+    @Value("${pollify.security.password.encoder:bcrypt}")
+    private String encoderId;
+
+    @Value("${pollify.security.password.max-wait-ms:5000}")
+    private long maxWaitMs;
+
+    private final LongAdder hashes = new LongAdder();
+    private final LongAdder verifications = new LongAdder();
+    private final LongAdder upgrades = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+    private final LongAdder abandoned = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+
+    // Hash of a random password with the current encoder, for logins of unknown accounts
+    private volatile String dummyHash;
+
+    public PasswordHashingService(
+            PasswordEncoder passwordEncoder,
+            @Qualifier("passwordHashingExecutor") ThreadPoolTaskExecutor hashingExecutor) {
+        this.passwordEncoder = passwordEncoder;
+        this.hashingExecutor = hashingExecutor;
+    }
+
+    public String encode(String rawPassword) {
+        String encoded = run(() -> passwordEncoder.encode(rawPassword));
+        hashes.increment();
+        return encoded;
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        boolean matches = run(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+        verifications.increment();
+        return matches;
+    }
+
+    /**
+     * Spends one verification on an account that does not exist, so unknown and
+     * known emails take the same time and cannot be told apart. Always false.
+     */
+    public boolean matchesNone(String rawPassword) {
+        String hash = dummyHash;
+        if (hash == null) {
+            hash = encode(UUID.randomUUID().toString());
+            dummyHash = hash;
+        }
+        matches(rawPassword, hash);
+        return false;
+    }
+
+    /**
+     * Re-encodes a verified password whose hash uses an outdated encoder or cost
+     *
+     * @return the new hash to store, or empty if the stored one is current
+     */
+    public Optional<String> upgradeEncoding(String rawPassword, String encodedPassword) {
+        if (!passwordEncoder.upgradeEncoding(encodedPassword)) {
+            return Optional.empty();
+        }
+        upgrades.increment();
+        return Optional.of(encode(rawPassword));
+    }
+
+    public PasswordHashingStats stats() {
+        long operations = hashes.sum() + verifications.sum();
+        return new PasswordHashingStats(
+                encoderId,
+                hashes.sum(),
+                verifications.sum(),
+                upgrades.sum(),
+                rejected.sum(),
+                timedOut.sum(),
+                abandoned.sum(),
+                operations > 0 ? TimeUnit.NANOSECONDS.toMicros(totalNanos.sum()) / 1000.0 / operations : null,
+                hashingExecutor.getActiveCount(),
+                hashingExecutor.getQueueSize());
+    }
+
+    private <T> T run(Supplier<T> hashing) {
+        AtomicBoolean callerGaveUp = new AtomicBoolean();
+        Future<T> future;
+        try {
+            future = hashingExecutor.submit(() -> {
+                long start = System.nanoTime();
+                try {
+                    return hashing.get();
+                } finally {
+                    totalNanos.add(System.nanoTime() - start);
+                    if (callerGaveUp.get()) {
+                        abandoned.increment();
+                    }
+                }
+            });
+        } catch (TaskRejectedException e) {
+            rejected.increment();
+            log.warn("Password hashing queue full - request shed");
+            throw new PasswordHashingBusyException("The server is busy, please try again in a moment", e);
+        }
+
+        try {
+            return future.get(maxWaitMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // Drops the task if still queued; a running hash ignores the interrupt and is counted as abandoned
+            callerGaveUp.set(true);
+            future.cancel(true);
+            timedOut.increment();
+            log.warn("Password hashing did not complete within {}ms - request shed", maxWaitMs);
+            throw new PasswordHashingBusyException("The server is busy, please try again in a moment", e);
+        } catch (InterruptedException e) {
+            callerGaveUp.set(true);
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing password", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+}
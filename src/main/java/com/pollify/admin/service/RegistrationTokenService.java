@@ -0,0 +1,161 @@
+package com.pollify.admin.service;
+
+import com.pollify.admin.dto.voter.RegistrationTokenStats;
+import com.pollify.admin.entity.tenant.RegistrationToken;
+import com.pollify.admin.multitenancy.TenantContext;
+import com.pollify.admin.repository.tenant.RegistrationTokenBatchRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.security.SecureRandom;
+import java.sql.Timestamp;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Epic 3 - Story 3.2: Registration tokens for code schools (Option B).
+ * Tokens are PLF- plus 8 characters of an unambiguous 32 character alphabet (2^40 values),
+ * drawn from SecureRandom and inserted in multi-row INSERT ... ON CONFLICT DO NOTHING chunks.
+ * A collision simply inserts fewer rows, and only that many tokens are drawn again.
+ * Tokens are written out as CSV from a database cursor, so 50k+ tokens never sit in memory.
+ */
+@Service
+@Slf4j
+public class RegistrationTokenService {
+
+    private static final String TOKEN_PREFIX = "PLF-";
+    private static final char[] ALPHABET = "ABCDEFGHJKLMNPQRSTUVWXYZ23456789".toCharArray();
+    private static final int TOKEN_LENGTH = 8;
+    private static final int GENERATION_CHUNK = 5000;
+    private static final int MAX_ROUNDS_WITHOUT_PROGRESS = 5;
+    private static final String CSV_HEADER = "token,status,generated_at,used_at\n";
+
+    private final RegistrationTokenBatchRepository tokenBatchRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    @Value("${pollify.registration-tokens.max-per-request:100000}")
+    private int maxPerRequest;
+
+    public RegistrationTokenService(
+            RegistrationTokenBatchRepository tokenBatchRepository,
+            TransactionTemplate transactionTemplate) {
+        this.tokenBatchRepository = tokenBatchRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+    }
+
+    /**
+     * Generates count new AVAILABLE tokens in one transaction
+     *
+     * @return the batch ID shared by every token of this run, to export exactly these tokens
+     */
+    public UUID generate(int count) {
+        requireTenant();
+        if (count < 1 || count > maxPerRequest) {
+            throw new IllegalArgumentException("Token count must be between 1 and " + maxPerRequest);
+        }
+
+        UUID batch = UUID.randomUUID();
+        OffsetDateTime generatedAt = OffsetDateTime.now(ZoneOffset.UTC);
+        long start = System.nanoTime();
+        int collisions = transactionTemplate.execute(status -> {
+            int remaining = count;
+            int collided = 0;
+            int roundsWithoutProgress = 0;
+            while (remaining > 0) {
+                Set<String> chunk = randomTokens(Math.min(remaining, GENERATION_CHUNK));
+                int inserted = tokenBatchRepository.insertIgnoringDuplicates(chunk, batch, generatedAt);
+                collided += chunk.size() - inserted;
+                remaining -= inserted;
+                roundsWithoutProgress = inserted == 0 ? roundsWithoutProgress + 1 : 0;
+                if (roundsWithoutProgress >= MAX_ROUNDS_WITHOUT_PROGRESS) {
+                    throw new IllegalStateException("Could not generate unique registration tokens");
+                }
+            }
+            return collided;
+        });
+
+        log.info("Generated {} registration token(s) in batch: {} for tenant: {} in {}ms ({} collision(s) redrawn)",
+                count, batch, TenantContext.getTenantId(), (System.nanoTime() - start) / 1_000_000, collisions);
+        return batch;
+    }
+
+    /**
+     * Writes tokens as CSV (token,status,generated_at,used_at), row by row from a cursor
+     *
+     * @param status AVAILABLE, USED, or null for all
+     * @param batch one generation run from {@link #generate(int)}, or null for all
+     */
+    public void exportCsv(Writer writer, String status, UUID batch) {
+        requireTenant();
+        String tokenStatus = status == null
+                ? null
+                : RegistrationToken.TokenStatus.valueOf(status.toUpperCase(Locale.ROOT)).name();
+
+        readOnlyTransactionTemplate.executeWithoutResult(transaction -> {
+            try {
+                writer.write(CSV_HEADER);
+                tokenBatchRepository.streamTokens(tokenStatus, batch, rs -> {
+                    try {
+                        writer.write(rs.getString(1));
+                        writer.write(',');
+                        writer.write(rs.getString(2));
+                        writer.write(',');
+                        writer.write(format(rs.getTimestamp(3)));
+                        writer.write(',');
+                        writer.write(format(rs.getTimestamp(4)));
+                        writer.write('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                writer.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    public RegistrationTokenStats stats() {
+        requireTenant();
+        return readOnlyTransactionTemplate.execute(status -> tokenBatchRepository.stats());
+    }
+
+    /**
+     * Distinct random tokens; duplicates within the chunk are redrawn right away
+     */
+    private Set<String> randomTokens(int count) {
+        Set<String> tokens = new HashSet<>(count * 2);
+        char[] token = new char[TOKEN_PREFIX.length() + TOKEN_LENGTH];
+        TOKEN_PREFIX.getChars(0, TOKEN_PREFIX.length(), token, 0);
+        while (tokens.size() < count) {
+            for (int i = TOKEN_PREFIX.length(); i < token.length; i++) {
+                token[i] = ALPHABET[secureRandom.nextInt(ALPHABET.length)];
+            }
+            tokens.add(new String(token));
+        }
+        return tokens;
+    }
+
+    private static String format(Timestamp timestamp) {
+        return timestamp == null ? "" : timestamp.toInstant().toString();
+    }
+
+    private static void requireTenant() {
+        if (TenantContext.getTenantId() == null) {
+            throw new IllegalStateException("Tenant context not set");
+        }
+    }
+}
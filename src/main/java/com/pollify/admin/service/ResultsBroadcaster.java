@@ -0,0 +1,101 @@
+package com.pollify.admin.service;
+
+import com.pollify.admin.dto.results.BroadcastStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Epic 7: Coalescing live results broadcaster.
+ * Committed votes only mark their election dirty; every pollify.results.broadcast.interval-ms
+ * each dirty election gets one results snapshot, built off the request thread.
+ * 1,000 votes/s on one election therefore cost 4 recomputations/s at the default 250ms
+ * instead of 1,000, and clients still converge on the same final state.
+ */
+@Component
+@Slf4j
+public class ResultsBroadcaster {
+
+    private final WebSocketService webSocketService;
+    private final TaskExecutor broadcastExecutor;
+
+    private final Set<ElectionKey> dirty = ConcurrentHashMap.newKeySet();
+    private final Set<ElectionKey> inFlight = ConcurrentHashMap.newKeySet();
+
+    private final LongAdder updatesReceived = new LongAdder();
+    private final LongAdder updatesMerged = new LongAdder();
+    private final LongAdder snapshotsEmitted = new LongAdder();
+    private final LongAdder snapshotsRejected = new LongAdder();
+
+    public ResultsBroadcaster(
+            WebSocketService webSocketService,
+            @Qualifier("resultsBroadcastExecutor") TaskExecutor broadcastExecutor) {
+        this.webSocketService = webSocketService;
+        this.broadcastExecutor = broadcastExecutor;
+    }
+
+    /**
+     * Rolled back votes never mark an election dirty; events published outside a
+     * transaction (write-behind flushes) are handled immediately.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onVotesCommitted(VotesCommittedEvent event) {
+        markDirty(event.tenantId(), event.electionId());
+    }
+
+    public void markDirty(String tenantId, UUID electionId) {
+        updatesReceived.increment();
+        if (!dirty.add(new ElectionKey(tenantId, electionId))) {
+            updatesMerged.increment();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${pollify.results.broadcast.interval-ms:250}")
+    public void emitDirtyElections() {
+        for (ElectionKey key : dirty) {
+            // A snapshot still being built stays dirty and is merged into the next tick
+            if (!inFlight.add(key)) {
+                continue;
+            }
+            dirty.remove(key);
+            try {
+                broadcastExecutor.execute(() -> {
+                    try {
+                        webSocketService.broadcastElectionResults(key.tenantId(), key.electionId());
+                        snapshotsEmitted.increment();
+                    } finally {
+                        inFlight.remove(key);
+                    }
+                });
+            } catch (TaskRejectedException e) {
+                inFlight.remove(key);
+                dirty.add(key);
+                snapshotsRejected.increment();
+                log.warn("Results broadcast queue full - election: {} in tenant: {} retried next tick",
+                        key.electionId(), key.tenantId());
+            }
+        }
+    }
+
+    public BroadcastStats stats() {
+        return new BroadcastStats(
+                updatesReceived.sum(),
+                updatesMerged.sum(),
+                snapshotsEmitted.sum(),
+                snapshotsRejected.sum(),
+                dirty.size());
+    }
+
+    private record ElectionKey(String tenantId, UUID electionId) {
+    }
+}
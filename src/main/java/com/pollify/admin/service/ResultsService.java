@@ -2,128 +2,159 @@ package com.pollify.admin.service;
 
 import com.pollify.admin.dto.election.CandidateResponse;
 import com.pollify.admin.dto.results.LiveResultsResponse;
-import com.pollify.admin.entity.tenant.Candidate;
-import com.pollify.admin.entity.tenant.Election;
+import com.pollify.admin.dto.results.PositionResultsResponse;
 import com.pollify.admin.multitenancy.TenantContext;
-import com.pollify.admin.repository.tenant.CandidateRepository;
-import com.pollify.admin.repository.tenant.ElectionRepository;
-import com.pollify.admin.repository.tenant.VoteRepository;
+import com.pollify.admin.repository.tenant.ResultsReadRepository;
+import com.pollify.admin.repository.tenant.ResultsReadRepository.CandidateResult;
+import com.pollify.admin.repository.tenant.ResultsReadRepository.ElectionResults;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.OffsetDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 /**
  * Epic 7: Results Service
- * Handles live and final election results
+ * Handles live election results (final results are frozen by FinalResultsService).
+ * Every read is served by one ResultsReadRepository query (election header plus all
+ * candidate counts), shared by the REST endpoints, WebSocket broadcasts and winner computation.
  */
 @Service
 @Slf4j
 public class ResultsService {
 
-    private final ElectionRepository electionRepository;
-    private final CandidateRepository candidateRepository;
-    private final VoteRepository voteRepository;
+    private static final Comparator<CandidateResult> BY_POSITION_THEN_VOTES =
+            Comparator.comparing(CandidateResult::position)
+                    .thenComparing(CandidateResult::voteCount, Comparator.reverseOrder())
+                    .thenComparing(CandidateResult::fullName);
+
+    private final ResultsReadRepository resultsReadRepository;
+    private final VoteCounterRegistry voteCounterRegistry;
 
     public ResultsService(
-            ElectionRepository electionRepository,
-            CandidateRepository candidateRepository,
-            VoteRepository voteRepository) {
-        this.electionRepository = electionRepository;
-        this.candidateRepository = candidateRepository;
-        this.voteRepository = voteRepository;
+            ResultsReadRepository resultsReadRepository,
+            VoteCounterRegistry voteCounterRegistry) {
+        this.resultsReadRepository = resultsReadRepository;
+        this.voteCounterRegistry = voteCounterRegistry;
     }
 
     /**
      * Epic 7 - Story 7.1: Get live results for an election
      */
+    @Transactional(readOnly = true)
     public LiveResultsResponse getLiveResults(UUID electionId) {
+        ElectionResults results = loadResults(electionId);
+
+        log.debug("Live results fetched for election: {} - Total votes: {}", electionId, results.totalVotes());
+
+        return mapToResponse(results);
+    }
+
+    /**
+     * Get election winner(s) - the top candidate of every position, including ties
+     */
+    @Transactional(readOnly = true)
+    public List<CandidateResponse> getWinners(UUID electionId) {
+        ElectionResults results = loadResults(electionId);
+        Map<String, Long> positionTotals = positionTotals(results);
+
+        Map<String, Long> maxVotes = new HashMap<>();
+        results.candidates().forEach(candidate ->
+                maxVotes.merge(candidate.position(), candidate.voteCount(), Math::max));
+
+        return results.candidates().stream()
+                .filter(candidate -> candidate.voteCount() == maxVotes.get(candidate.position()))
+                .map(candidate -> mapCandidateToResponse(
+                        results.electionId(), candidate, positionTotals.get(candidate.position())))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Single round trip; sharded counters overlay their unflushed votes in memory
+     */
+    private ElectionResults loadResults(UUID electionId) {
         String tenantId = TenantContext.getTenantId();
         if (tenantId == null) {
             throw new IllegalStateException("Tenant context not set");
         }
 
-        Election election = electionRepository.findById(electionId)
+        ElectionResults results = resultsReadRepository.findElectionResults(electionId)
                 .orElseThrow(() -> new IllegalArgumentException("Election not found"));
 
-        // Get total votes
-        long totalVotes = voteRepository.countByElectionId(electionId);
+        if (!voteCounterRegistry.isSharded()) {
+            return results;
+        }
 
-        // Get candidates ordered by vote count (descending)
-        List<Candidate> candidates = candidateRepository.findByElectionIdOrderByVoteCountDesc(electionId);
+        Map<UUID, Long> persistedCounts = new HashMap<>();
+        results.candidates().forEach(candidate -> persistedCounts.put(candidate.candidateId(), candidate.voteCount()));
+        Map<UUID, Long> liveCounts = voteCounterRegistry.liveCounts(tenantId, electionId, persistedCounts);
 
-        List<CandidateResponse> candidateResponses = candidates.stream()
-                .map(candidate -> mapCandidateToResponse(candidate, totalVotes))
+        List<CandidateResult> candidates = results.candidates().stream()
+                .map(candidate -> candidate.withVoteCount(liveCounts.get(candidate.candidateId())))
+                .sorted(BY_POSITION_THEN_VOTES)
                 .collect(Collectors.toList());
+        return new ElectionResults(results.electionId(), results.title(), results.status(), candidates);
+    }
 
-        log.debug("Live results fetched for election: {} - Total votes: {}", electionId, totalVotes);
+    private LiveResultsResponse mapToResponse(ElectionResults results) {
+        Map<String, Long> positionTotals = positionTotals(results);
+
+        List<CandidateResponse> candidates = results.candidates().stream()
+                .map(candidate -> mapCandidateToResponse(
+                        results.electionId(), candidate, positionTotals.get(candidate.position())))
+                .collect(Collectors.toList());
+
+        Map<String, Integer> candidateCounts = new LinkedHashMap<>();
+        results.candidates().forEach(candidate -> candidateCounts.merge(candidate.position(), 1, Integer::sum));
+        List<PositionResultsResponse> positions = positionTotals.entrySet().stream()
+                .map(entry -> new PositionResultsResponse(
+                        entry.getKey(), entry.getValue(), candidateCounts.get(entry.getKey())))
+                .collect(Collectors.toList());
 
         return new LiveResultsResponse(
-                election.getId().toString(),
-                election.getTitle(),
-                election.getElectionStatus().name(),
-                totalVotes,
-                candidateResponses,
+                results.electionId().toString(),
+                results.title(),
+                results.status().name(),
+                results.totalVotes(),
+                candidates,
+                positions,
                 OffsetDateTime.now()
         );
     }
 
     /**
-     * Epic 7 - Story 7.2: Get final results after election closes
+     * Votes cast per position, in result order
      */
-    public LiveResultsResponse getFinalResults(UUID electionId) {
-        Election election = electionRepository.findById(electionId)
-                .orElseThrow(() -> new IllegalArgumentException("Election not found"));
-
-        // Only show final results for CLOSED elections
-        if (election.getElectionStatus() != Election.ElectionStatus.CLOSED) {
-            throw new IllegalArgumentException("Final results are only available for closed elections");
-        }
-
-        return getLiveResults(electionId);
-    }
-
-    /**
-     * Get election winner(s)
-     */
-    public List<CandidateResponse> getWinners(UUID electionId) {
-        List<Candidate> candidates = candidateRepository.findByElectionIdOrderByVoteCountDesc(electionId);
-
-        if (candidates.isEmpty()) {
-            return List.of();
-        }
-
-        // Get highest vote count
-        long maxVotes = candidates.get(0).getVoteCount();
-        long totalVotes = voteRepository.countByElectionId(electionId);
-
-        // Return all candidates with the highest vote count (handles ties)
-        return candidates.stream()
-                .filter(c -> c.getVoteCount().equals(maxVotes))
-                .map(c -> mapCandidateToResponse(c, totalVotes))
-                .collect(Collectors.toList());
+    private Map<String, Long> positionTotals(ElectionResults results) {
+        Map<String, Long> totals = new LinkedHashMap<>();
+        results.candidates().forEach(candidate -> totals.merge(candidate.position(), candidate.voteCount(), Long::sum));
+        return totals;
     }
 
     /**
-     * Map candidate to response with percentage
+     * Map candidate to response with its percentage of the position's votes
      */
-    private CandidateResponse mapCandidateToResponse(Candidate candidate, long totalVotes) {
+    private CandidateResponse mapCandidateToResponse(UUID electionId, CandidateResult candidate, long positionVotes) {
         double percentage = 0.0;
-        if (totalVotes > 0 && candidate.getVoteCount() > 0) {
-            percentage = Math.round((candidate.getVoteCount() * 100.0 / totalVotes) * 100.0) / 100.0;
+        if (positionVotes > 0 && candidate.voteCount() > 0) {
+            percentage = Math.round((candidate.voteCount() * 100.0 / positionVotes) * 100.0) / 100.0;
         }
 
         return new CandidateResponse(
-                candidate.getId().toString(),
-                candidate.getElectionId().toString(),
-                candidate.getFullName(),
-                candidate.getPosition(),
-                candidate.getBio(),
-                candidate.getImageUrl(),
-                candidate.getVoteCount(),
+                candidate.candidateId().toString(),
+                electionId.toString(),
+                candidate.fullName(),
+                candidate.position(),
+                candidate.bio(),
+                candidate.imageUrl(),
+                candidate.voteCount(),
                 percentage
         );
     }
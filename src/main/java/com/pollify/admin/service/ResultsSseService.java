@@ -0,0 +1,266 @@
+package com.pollify.admin.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Epic 7: Server-Sent Events fan-out for live results, for clients that cannot keep a WebSocket open.
+ * Each election has one subscriber set; WebSocketService hands it every coalesced update it sends
+ * to the STOMP topic, serialized once and queued for all subscribers. Each subscriber has its own
+ * frame queue drained on resultsSseExecutor, so socket writes never run under the election's lock
+ * and a slow client only delays itself. Emitters run on servlet async requests, so an idle
+ * subscriber holds a socket and an emitter but no thread.
+ */
+@Service
+@Slf4j
+public class ResultsSseService {
+
+    private static final String EVENT_SNAPSHOT = "snapshot";
+    private static final String EVENT_RESULTS = "results";
+    private static final int MAX_SNAPSHOT_ATTEMPTS = 3;
+
+    private final JsonMapper jsonMapper;
+    private final TaskExecutor sseExecutor;
+
+    @Value("${pollify.results.sse.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    @Value("${pollify.results.sse.max-subscribers:20000}")
+    private int maxSubscribers;
+
+    @Value("${pollify.results.sse.max-queued-frames:64}")
+    private int maxQueuedFrames;
+
+    // tenant:election -> subscribers; removed when the last subscriber leaves
+    private final Map<String, ElectionSubscribers> elections = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    public ResultsSseService(
+            JsonMapper jsonMapper,
+            @Qualifier("resultsSseExecutor") TaskExecutor sseExecutor) {
+        this.jsonMapper = jsonMapper;
+        this.sseExecutor = sseExecutor;
+    }
+
+    /**
+     * Opens a stream that starts with the snapshot and continues with every update.
+     * The snapshot is taken without any lock; if an update was published meanwhile it is taken
+     * again, so in the common case no update can slip in between. After a few contended attempts
+     * the last snapshot is used anyway: full updates supersede it and delta clients resync on the gap.
+     */
+    public SseEmitter subscribe(String tenantId, UUID electionId, Supplier<Object> snapshot) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new IllegalStateException("Too many live results subscribers, please retry later");
+        }
+
+        String key = tenantId + ":" + electionId;
+        Subscriber subscriber = new Subscriber(new SseEmitter(timeoutMs));
+        boolean added = false;
+        try {
+            for (int attempt = 1; !added; attempt++) {
+                ElectionSubscribers subscribers = elections.computeIfAbsent(key, id -> new ElectionSubscribers());
+                long sequence = subscribers.sequence;
+                String json;
+                try {
+                    json = jsonMapper.writeValueAsString(snapshot.get());
+                } catch (RuntimeException e) {
+                    // e.g. unknown election: do not leave an empty set behind
+                    retireIfEmpty(key, subscribers);
+                    throw e;
+                }
+
+                subscribers.lock.lock();
+                try {
+                    if (subscribers.retired
+                            || (subscribers.sequence != sequence && attempt < MAX_SNAPSHOT_ATTEMPTS)) {
+                        continue;
+                    }
+                    subscriber.enqueue(SseEmitter.event().name(EVENT_SNAPSHOT).data(json).build());
+                    subscribers.members.add(subscriber);
+                    added = true;
+                } finally {
+                    subscribers.lock.unlock();
+                }
+
+                Runnable remove = () -> remove(key, subscribers, subscriber);
+                subscriber.emitter.onCompletion(remove);
+                subscriber.emitter.onTimeout(remove);
+                subscriber.emitter.onError(error -> remove.run());
+            }
+        } finally {
+            if (!added) {
+                subscriberCount.decrementAndGet();
+            }
+        }
+
+        log.debug("SSE subscriber added for election: {} in tenant: {} ({} on this node)",
+                electionId, tenantId, subscriberCount.get());
+        return subscriber.emitter;
+    }
+
+    /**
+     * Queues one update for every subscriber of the election
+     */
+    public void publish(String tenantId, UUID electionId, Object update) {
+        ElectionSubscribers subscribers = elections.get(tenantId + ":" + electionId);
+        if (subscribers == null) {
+            return;
+        }
+
+        Set<ResponseBodyEmitter.DataWithMediaType> frame =
+                SseEmitter.event().name(EVENT_RESULTS).data(jsonMapper.writeValueAsString(update)).build();
+        subscribers.lock.lock();
+        try {
+            subscribers.sequence++;
+            subscribers.members.forEach(subscriber -> subscriber.enqueue(frame));
+        } finally {
+            subscribers.lock.unlock();
+        }
+    }
+
+    /**
+     * Keeps idle streams open through proxies that drop silent connections
+     */
+    @Scheduled(fixedDelayString = "${pollify.results.sse.heartbeat-ms:15000}")
+    public void heartbeat() {
+        Set<ResponseBodyEmitter.DataWithMediaType> frame = SseEmitter.event().comment("heartbeat").build();
+        for (ElectionSubscribers subscribers : elections.values()) {
+            subscribers.members.forEach(subscriber -> subscriber.enqueue(frame));
+        }
+    }
+
+    public int subscriberCount() {
+        return subscriberCount.get();
+    }
+
+    /**
+     * Drops the subscriber; the last one out retires the election's set and removes it from the map
+     */
+    private void remove(String key, ElectionSubscribers subscribers, Subscriber subscriber) {
+        subscriber.closed.set(true);
+        subscribers.lock.lock();
+        try {
+            if (!subscribers.members.remove(subscriber)) {
+                return;
+            }
+            subscriberCount.decrementAndGet();
+        } finally {
+            subscribers.lock.unlock();
+        }
+        retireIfEmpty(key, subscribers);
+    }
+
+    private void retireIfEmpty(String key, ElectionSubscribers subscribers) {
+        subscribers.lock.lock();
+        try {
+            if (subscribers.members.isEmpty() && !subscribers.retired) {
+                subscribers.retired = true;
+                elections.remove(key, subscribers);
+            }
+        } finally {
+            subscribers.lock.unlock();
+        }
+    }
+
+    /**
+     * sequence, retired and membership changes are guarded by the lock, which is only held to
+     * queue frames and never across a socket write. A retired set is out of the map for good;
+     * a subscriber that finds one starts over with a fresh set.
+     */
+    private static final class ElectionSubscribers {
+
+        private final Set<Subscriber> members = new CopyOnWriteArraySet<>();
+        private final ReentrantLock lock = new ReentrantLock();
+        private volatile long sequence;
+        private boolean retired;
+    }
+
+    /**
+     * One emitter and its pending frames. At most one drain task runs per subscriber, which
+     * keeps its frames in order.
+     */
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final Queue<Set<ResponseBodyEmitter.DataWithMediaType>> frames = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger queued = new AtomicInteger();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        private void enqueue(Set<ResponseBodyEmitter.DataWithMediaType> frame) {
+            if (closed.get()) {
+                return;
+            }
+            if (queued.incrementAndGet() > maxQueuedFrames) {
+                fail(new IllegalStateException("SSE subscriber fell " + maxQueuedFrames + " frames behind"));
+                return;
+            }
+            frames.add(frame);
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (!draining.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                sseExecutor.execute(this::drain);
+            } catch (TaskRejectedException e) {
+                draining.set(false);
+                fail(e);
+            }
+        }
+
+        private void drain() {
+            try {
+                Set<ResponseBodyEmitter.DataWithMediaType> frame;
+                while (!closed.get() && (frame = frames.poll()) != null) {
+                    queued.decrementAndGet();
+                    emitter.send(frame);
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Client went away; the error callback removes it
+                fail(e);
+            } finally {
+                draining.set(false);
+            }
+            // A frame queued after the last poll but before draining was cleared
+            if (!closed.get() && !frames.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+
+        private void fail(Exception e) {
+            if (closed.compareAndSet(false, true)) {
+                frames.clear();
+                emitter.completeWithError(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.pollify.admin.service;
+
+import com.pollify.admin.entity.tenant.Election;
+import com.pollify.admin.repository.tenant.ResultsReadRepository;
+import com.pollify.admin.repository.tenant.ResultsReadRepository.ResultsFingerprint;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Epic 7: Live results version per (tenant, election), exposed as the live results ETag so
+ * unchanged polls are answered with 304 without loading the results.
+ * The version has two parts. A fingerprint of the stored counts is shared by every node and
+ * re-read at most once per version-ttl-ms, so votes committed on other nodes show up within
+ * that interval. A local counter, bumped whenever committed votes, a reconciliation or an
+ * election/candidate change on this node can alter the results, covers changes made here right
+ * away, including sharded counts that are not stored yet. The ETag also carries this node's
+ * start time, since the local counter restarts at 0.
+ * Entries exist only for ACTIVE or DRAFT elections that were polled; closing an election removes its entry.
+ */
+@Component
+public class ResultsVersionRegistry {
+
+    private final long epoch = System.currentTimeMillis();
+
+    private final ResultsReadRepository resultsReadRepository;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    @Value("${pollify.results.live.version-ttl-ms:1000}")
+    private long versionTtlMs;
+
+    // tenant:election -> version
+    private final Map<String, ElectionVersion> versions = new ConcurrentHashMap<>();
+
+    public ResultsVersionRegistry(
+            ResultsReadRepository resultsReadRepository,
+            TransactionTemplate transactionTemplate) {
+        this.resultsReadRepository = resultsReadRepository;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onVotesCommitted(VotesCommittedEvent event) {
+        bump(event.tenantId(), event.electionId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onElectionClosed(ElectionClosedEvent event) {
+        versions.remove(key(event.tenantId(), event.electionId()));
+    }
+
+    /**
+     * Only elections that are being polled have an entry; the next poll of any other
+     * election reads the current fingerprint anyway
+     */
+    public void bump(String tenantId, UUID electionId) {
+        ElectionVersion version = versions.get(key(tenantId, electionId));
+        if (version != null) {
+            version.local.incrementAndGet();
+        }
+    }
+
+    /**
+     * Bumps the version once the surrounding transaction commits
+     */
+    public void bumpAfterCommit(String tenantId, UUID electionId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            bump(tenantId, electionId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                bump(tenantId, electionId);
+            }
+        });
+    }
+
+    /**
+     * Strong ETag for the election's current results. Read it before loading the results:
+     * results newer than their tag only cause one extra full response, never a stale 304.
+     * Must be called with the election's tenant in context.
+     */
+    public String etag(String tenantId, UUID electionId) {
+        String key = key(tenantId, electionId);
+        ElectionVersion version = versions.get(key);
+        SharedVersion shared = version != null ? version.shared : null;
+        if (shared != null && System.nanoTime() - shared.checkedAt() < TimeUnit.MILLISECONDS.toNanos(versionTtlMs)) {
+            return etag(electionId, version.local.get(), shared.fingerprint());
+        }
+
+        // Local part first: a change committed while the fingerprint is read still alters a later tag
+        long local = version != null ? version.local.get() : 0;
+        long checkedAt = System.nanoTime();
+        ResultsFingerprint fingerprint = readOnlyTransactionTemplate.execute(status ->
+                resultsReadRepository.findResultsFingerprint(electionId))
+                .orElseThrow(() -> new IllegalArgumentException("Election not found"));
+        if (fingerprint.status() == Election.ElectionStatus.CLOSED) {
+            // Nothing changes any more; drop an entry a poll may have recreated during the close
+            versions.remove(key);
+            return etag(electionId, 0, fingerprint.value());
+        }
+
+        if (version == null) {
+            version = versions.computeIfAbsent(key, k -> new ElectionVersion());
+            local = version.local.get();
+        }
+        version.update(new SharedVersion(fingerprint.value(), checkedAt));
+        return etag(electionId, local, fingerprint.value());
+    }
+
+    private String etag(UUID electionId, long local, String fingerprint) {
+        return "\"live-" + electionId + "-" + fingerprint + "-" + epoch + "-" + local + "\"";
+    }
+
+    private static String key(String tenantId, UUID electionId) {
+        return tenantId + ":" + electionId;
+    }
+
+    private record SharedVersion(String fingerprint, long checkedAt) {
+    }
+
+    private static final class ElectionVersion {
+
+        private final AtomicLong local = new AtomicLong();
+        private volatile SharedVersion shared;
+
+        private synchronized void update(SharedVersion next) {
+            // A slower concurrent refresh must not replace a newer fingerprint
+            if (shared == null || next.checkedAt() - shared.checkedAt() > 0) {
+                shared = next;
+            }
+        }
+    }
+}
@@ -0,0 +1,270 @@
+package com.pollify.admin.service;
+
+import com.pollify.admin.dto.voter.StudentListImportError;
+import com.pollify.admin.dto.voter.StudentListImportProgress;
+import com.pollify.admin.dto.voter.StudentListImportReport;
+import com.pollify.admin.multitenancy.TenantContext;
+import com.pollify.admin.repository.tenant.StudentListImportRepository;
+import com.pollify.admin.repository.tenant.StudentListImportRepository.StudentRow;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Epic 3 - Story 3.2: Student list upload for code schools (Option A).
+ * The CSV is parsed record by record while it streams into PostgreSQL COPY, so a
+ * 100k row file never sits in memory and costs a handful of statements instead of
+ * 100k entity saves. Invalid rows and duplicate student IDs are skipped and reported.
+ * Everything runs in one transaction: a replace either swaps the whole list or leaves it as it was.
+ */
+@Service
+@Slf4j
+public class StudentListImportService {
+
+    public static final String MODE_APPEND = "append";
+    public static final String MODE_REPLACE = "replace";
+
+    private static final int MAX_STUDENT_ID_LENGTH = 50;
+    private static final int MAX_FULL_NAME_LENGTH = 200;
+    private static final int PROGRESS_LOG_INTERVAL = 10_000;
+
+    private final StudentListImportRepository importRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${pollify.students.import.max-reported-errors:500}")
+    private int maxReportedErrors;
+
+    // tenant -> running import; one import per tenant at a time
+    private final Map<String, ImportState> running = new ConcurrentHashMap<>();
+
+    public StudentListImportService(
+            StudentListImportRepository importRepository,
+            TransactionTemplate transactionTemplate) {
+        this.importRepository = importRepository;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * Imports a CSV with a header row containing student_id and full_name columns (any order)
+     *
+     * @param mode append (keep the current list) or replace (drop students who have not registered)
+     */
+    public StudentListImportReport importCsv(InputStream csv, String mode) {
+        String tenantId = TenantContext.getTenantId();
+        if (tenantId == null) {
+            throw new IllegalStateException("Tenant context not set");
+        }
+        String importMode = mode == null ? MODE_APPEND : mode.toLowerCase(Locale.ROOT);
+        if (!MODE_APPEND.equals(importMode) && !MODE_REPLACE.equals(importMode)) {
+            throw new IllegalArgumentException("Import mode must be 'append' or 'replace'");
+        }
+
+        ImportState state = new ImportState(importMode);
+        if (running.putIfAbsent(tenantId, state) != null) {
+            throw new IllegalStateException("A student list import is already running for this school");
+        }
+
+        long start = System.nanoTime();
+        try {
+            CsvReader reader = new CsvReader(new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8)));
+            StudentRows rows = new StudentRows(reader, state);
+
+            long[] counts = transactionTemplate.execute(status -> {
+                importRepository.createStagingTable();
+                long staged = importRepository.copyIntoStaging(rows);
+
+                state.phase = "MERGING";
+                long removed = MODE_REPLACE.equals(importMode) ? importRepository.deleteUnregistered() : 0;
+                long imported = importRepository.mergeStaging();
+                return new long[]{staged, imported, removed};
+            });
+
+            long staged = counts[0];
+            long imported = counts[1];
+            long removed = counts[2];
+            long durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            log.info("Student list imported ({}) for tenant: {} - {} row(s) read, {} imported, {} removed, {} rejected in {}ms",
+                    importMode, tenantId, state.rowsRead.get(), imported, removed, state.rejected.get(), durationMs);
+
+            return new StudentListImportReport(
+                    importMode,
+                    state.rowsRead.get(),
+                    imported,
+                    staged - imported,
+                    removed,
+                    state.rejected.get(),
+                    state.errors,
+                    durationMs);
+
+        } catch (UncheckedIOException e) {
+            throw new IllegalArgumentException("Could not read the uploaded file: " + e.getCause().getMessage(), e);
+        } finally {
+            running.remove(tenantId);
+        }
+    }
+
+    /**
+     * The import currently running for the tenant in context, if any
+     */
+    public Optional<StudentListImportProgress> progress() {
+        String tenantId = TenantContext.getTenantId();
+        ImportState state = tenantId == null ? null : running.get(tenantId);
+        if (state == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new StudentListImportProgress(
+                state.mode, state.phase, state.rowsRead.get(), state.rejected.get(), state.startedAt));
+    }
+
+    private static boolean isBlank(List<String> record) {
+        return record.stream().allMatch(String::isBlank);
+    }
+
+    private static int columnIndex(List<String> header, String... names) {
+        for (int i = 0; i < header.size(); i++) {
+            String column = header.get(i).trim().toLowerCase(Locale.ROOT).replace(' ', '_');
+            for (String name : names) {
+                if (column.equals(name)) {
+                    return i;
+                }
+            }
+        }
+        throw new IllegalArgumentException(
+                "The file must have a header row with student_id and full_name columns");
+    }
+
+    /**
+     * Valid, de-duplicated rows of the file, parsed lazily while COPY consumes them
+     */
+    private final class StudentRows implements Iterator<StudentRow> {
+
+        private final CsvReader reader;
+        private final ImportState state;
+        private final Set<String> seen = new HashSet<>();
+        private int studentIdColumn = -1;
+        private int fullNameColumn = -1;
+        private StudentRow next;
+
+        private StudentRows(CsvReader reader, ImportState state) {
+            this.reader = reader;
+            this.state = state;
+        }
+
+        @Override
+        public boolean hasNext() {
+            try {
+                if (studentIdColumn < 0) {
+                    readHeader();
+                }
+                while (next == null) {
+                    List<String> record = reader.next();
+                    if (record == null) {
+                        return false;
+                    }
+                    if (!isBlank(record)) {
+                        next = validate(record);
+                    }
+                }
+                return true;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public StudentRow next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            StudentRow row = next;
+            next = null;
+            return row;
+        }
+
+        private void readHeader() throws IOException {
+            List<String> header = reader.next();
+            if (header == null) {
+                throw new IllegalArgumentException("The uploaded file is empty");
+            }
+            studentIdColumn = columnIndex(header, "student_id", "studentid");
+            fullNameColumn = columnIndex(header, "full_name", "fullname", "name");
+        }
+
+        /**
+         * @return the row, or null if it was rejected
+         */
+        private StudentRow validate(List<String> record) {
+            long rowsRead = state.rowsRead.incrementAndGet();
+            if (rowsRead % PROGRESS_LOG_INTERVAL == 0) {
+                log.debug("Student list import: {} row(s) read", rowsRead);
+            }
+
+            String studentId = field(record, studentIdColumn);
+            String fullName = field(record, fullNameColumn);
+            if (studentId.isEmpty()) {
+                return reject(studentId, "Student ID is required");
+            }
+            if (studentId.length() > MAX_STUDENT_ID_LENGTH) {
+                return reject(studentId, "Student ID is longer than " + MAX_STUDENT_ID_LENGTH + " characters");
+            }
+            if (fullName.isEmpty()) {
+                return reject(studentId, "Full name is required");
+            }
+            if (fullName.length() > MAX_FULL_NAME_LENGTH) {
+                return reject(studentId, "Full name is longer than " + MAX_FULL_NAME_LENGTH + " characters");
+            }
+            if (!seen.add(studentId)) {
+                return reject(studentId, "Duplicate student ID in file");
+            }
+            return new StudentRow(studentId, fullName);
+        }
+
+        private StudentRow reject(String studentId, String message) {
+            state.rejected.incrementAndGet();
+            if (state.errors.size() < maxReportedErrors) {
+                state.errors.add(new StudentListImportError(reader.recordLine(), studentId, message));
+            }
+            return null;
+        }
+
+        private String field(List<String> record, int column) {
+            return column < record.size() ? record.get(column).trim() : "";
+        }
+    }
+
+    private static final class ImportState {
+
+        private final String mode;
+        private final OffsetDateTime startedAt = OffsetDateTime.now();
+        private final AtomicLong rowsRead = new AtomicLong();
+        private final AtomicLong rejected = new AtomicLong();
+        private final List<StudentListImportError> errors = new ArrayList<>();
+        private volatile String phase = "STAGING";
+
+        private ImportState(String mode) {
+            this.mode = mode;
+        }
+    }
+}
@@ -11,7 +11,6 @@ import com.pollify.admin.repository.master.PollifyTenantRepository;
 import com.pollify.admin.repository.master.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,7 +27,8 @@ public class TenantManagementService {
     private final PollifyTenantRepository tenantRepository;
     private final UserRepository userRepository;
     private final TenantSchemaService tenantSchemaService;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
+    private final TenantRegistry tenantRegistry;
 
     @Transactional
     public TenantResponse createTenant(CreateTenantRequest request) {
@@ -62,13 +62,14 @@ public class TenantManagementService {
         tenant.setAdminEmail(request.getAdminEmail());
         tenant.setAdminFirstName(request.getAdminFirstName());
         tenant.setAdminLastName(request.getAdminLastName());
-        tenant.setAdminPasswordHash(passwordEncoder.encode(request.getAdminPassword()));
+        tenant.setAdminPasswordHash(passwordHashingService.encode(request.getAdminPassword()));
         tenant.setOnboardingCompleted(true);
         tenant.setCreatedAt(OffsetDateTime.now());
         tenant.setOnboardedAt(OffsetDateTime.now());
 
         // Save tenant
         tenant = tenantRepository.save(tenant);
+        tenantRegistry.invalidateAfterCommit();
         log.info("Tenant saved: {}", tenant.getTenantId());
 
         // Create tenant schema
@@ -84,7 +85,7 @@ public class TenantManagementService {
         User adminUser = new User();
         adminUser.setId(UUID.randomUUID());
         adminUser.setEmail(request.getAdminEmail());
-        adminUser.setPasswordHash(passwordEncoder.encode(request.getAdminPassword()));
+        adminUser.setPasswordHash(passwordHashingService.encode(request.getAdminPassword()));
         adminUser.setFirstName(request.getAdminFirstName());
         adminUser.setLastName(request.getAdminLastName());
         adminUser.setRole(UserRole.TENANT_ADMIN);
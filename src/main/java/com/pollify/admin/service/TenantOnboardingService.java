@@ -12,7 +12,6 @@ import com.pollify.admin.repository.master.PollifyTenantRepository;
 import com.pollify.admin.repository.master.TenantInvitationRepository;
 import com.pollify.admin.security.JwtTokenProvider;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -31,22 +30,25 @@ public class TenantOnboardingService {
     private final PollifyTenantRepository tenantRepository;
     private final EmailDomainIndexRepository emailDomainIndexRepository;
     private final TenantSchemaService tenantSchemaService;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final JwtTokenProvider jwtTokenProvider;
+    private final TenantRegistry tenantRegistry;
 
     public TenantOnboardingService(
             TenantInvitationRepository invitationRepository,
             PollifyTenantRepository tenantRepository,
             EmailDomainIndexRepository emailDomainIndexRepository,
             TenantSchemaService tenantSchemaService,
-            PasswordEncoder passwordEncoder,
-            JwtTokenProvider jwtTokenProvider) {
+            PasswordHashingService passwordHashingService,
+            JwtTokenProvider jwtTokenProvider,
+            TenantRegistry tenantRegistry) {
         this.invitationRepository = invitationRepository;
         this.tenantRepository = tenantRepository;
         this.emailDomainIndexRepository = emailDomainIndexRepository;
         this.tenantSchemaService = tenantSchemaService;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHashingService = passwordHashingService;
         this.jwtTokenProvider = jwtTokenProvider;
+        this.tenantRegistry = tenantRegistry;
     }
 
     /**
@@ -89,6 +91,7 @@ public class TenantOnboardingService {
             invitation.setInvitationStatus(TenantInvitation.InvitationStatus.ACCEPTED);
             invitation.setAcceptedAt(OffsetDateTime.now());
             invitationRepository.save(invitation);
+            tenantRegistry.invalidateAfterCommit();
 
             // 8. Generate login token for admin
             String loginToken = jwtTokenProvider.generateToken(
@@ -151,7 +154,7 @@ public class TenantOnboardingService {
         tenant.setAdminEmail(invitation.getUniversityEmail());
         tenant.setAdminFirstName(request.getAdminFirstName());
         tenant.setAdminLastName(request.getAdminLastName());
-        tenant.setAdminPasswordHash(passwordEncoder.encode(request.getPassword()));
+        tenant.setAdminPasswordHash(passwordHashingService.encode(request.getPassword()));
         tenant.setDatabaseSchema(schemaName);
         tenant.setSchoolType(PollifyTenant.SchoolType.valueOf(request.getSchoolType()));
         tenant.setTenantStatus(PollifyTenant.TenantStatus.ACTIVE);
@@ -0,0 +1,271 @@
+package com.pollify.admin.service;
+
+import com.pollify.admin.entity.master.EmailDomainIndex;
+import com.pollify.admin.entity.master.PollifyTenant;
+import com.pollify.admin.multitenancy.TenantContext;
+import com.pollify.admin.repository.master.EmailDomainIndexRepository;
+import com.pollify.admin.repository.master.PollifyTenantRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * In-memory copy of the master tenant registry (pollify_tenant and email_domain_index),
+ * indexed by tenant ID, schema, email domain, school code and admin email, so tenant
+ * resolution on the request path costs no queries. These rows only change at onboarding:
+ * writers on this node call {@link #invalidateAfterCommit()}. Other nodes learn of a new
+ * tenant on the first miss, which falls back to a single query and, if the row exists, adds
+ * it to the copy. Keys that are not found are remembered for miss-ttl-ms, so repeated lookups
+ * of unknown domains or emails (super admin logins, guessed credentials) do not query every time;
+ * a tenant onboarded on another node can therefore take up to that long to resolve for a key
+ * that missed just before. The periodic refresh bounds staleness of changed rows.
+ * Returned entities are shared, detached copies and must be treated as read-only.
+ */
+@Component
+@Slf4j
+public class TenantRegistry {
+
+    private final PollifyTenantRepository tenantRepository;
+    private final EmailDomainIndexRepository emailDomainIndexRepository;
+
+    private volatile Snapshot snapshot;
+    // Bumped by every invalidation so a load that raced with one is not cached
+    private final AtomicLong generation = new AtomicLong();
+
+    // index:key -> System.nanoTime() until which the key is known to be absent
+    private final Map<String, Long> misses = new ConcurrentHashMap<>();
+
+    @Value("${pollify.tenant.registry.miss-ttl-ms:30000}")
+    private long missTtlMs;
+
+    @Value("${pollify.tenant.registry.max-cached-misses:10000}")
+    private int maxCachedMisses;
+
+    public TenantRegistry(
+            PollifyTenantRepository tenantRepository,
+            EmailDomainIndexRepository emailDomainIndexRepository) {
+        this.tenantRepository = tenantRepository;
+        this.emailDomainIndexRepository = emailDomainIndexRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        snapshot();
+    }
+
+    @Scheduled(
+            initialDelayString = "${pollify.tenant.registry.refresh-interval-ms:300000}",
+            fixedDelayString = "${pollify.tenant.registry.refresh-interval-ms:300000}")
+    public void refresh() {
+        // The previous copy keeps serving while the new one loads, and if loading fails
+        reload();
+    }
+
+    public Optional<PollifyTenant> findById(String tenantId) {
+        return lookup("id", Snapshot::byId, tenantId, () -> tenantRepository.findById(tenantId), null);
+    }
+
+    public Optional<PollifyTenant> findByDatabaseSchema(String databaseSchema) {
+        return lookup("schema", Snapshot::bySchema, databaseSchema,
+                () -> tenantRepository.findByDatabaseSchema(databaseSchema), null);
+    }
+
+    public Optional<PollifyTenant> findByEmailDomain(String emailDomain) {
+        return lookup("domain", Snapshot::byEmailDomain, emailDomain,
+                () -> tenantRepository.findByIndexedEmailDomain(emailDomain), emailDomain);
+    }
+
+    public Optional<PollifyTenant> findBySchoolCode(String schoolCode) {
+        return lookup("code", Snapshot::bySchoolCode, schoolCode, () -> tenantRepository.findBySchoolCode(schoolCode), null);
+    }
+
+    public Optional<PollifyTenant> findByAdminEmail(String adminEmail) {
+        return lookup("admin", Snapshot::byAdminEmail, adminEmail, () -> tenantRepository.findByAdminEmail(adminEmail), null);
+    }
+
+    /**
+     * Drops the copy once the surrounding registry write commits
+     */
+    public void invalidateAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidate();
+            }
+        });
+    }
+
+    public void invalidate() {
+        generation.incrementAndGet();
+        snapshot = null;
+        misses.clear();
+        log.info("Tenant registry invalidated");
+    }
+
+    /**
+     * Serves a hit from the copy. A miss not seen within miss-ttl-ms costs one query, since the
+     * row may have been written on another node since the last refresh; a row found that way is
+     * added to the copy, anything else is remembered as absent.
+     *
+     * @param emailDomain the domain to index the found tenant under, for email domain lookups
+     */
+    private Optional<PollifyTenant> lookup(
+            String indexName,
+            Function<Snapshot, Map<String, PollifyTenant>> index,
+            String key,
+            Supplier<Optional<PollifyTenant>> query,
+            String emailDomain) {
+        if (key == null) {
+            return Optional.empty();
+        }
+        PollifyTenant cached = index.apply(snapshot()).get(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        String missKey = indexName + ":" + key;
+        Long absentUntil = misses.get(missKey);
+        if (absentUntil != null) {
+            if (System.nanoTime() - absentUntil < 0) {
+                return Optional.empty();
+            }
+            misses.remove(missKey, absentUntil);
+        }
+
+        long loadGeneration = generation.get();
+        Optional<PollifyTenant> found = TenantContext.callWithTenant(null, query);
+        if (found.isPresent()) {
+            log.info("Tenant registry missed {} {} - adding tenant: {}", indexName, key, found.get().getTenantId());
+            add(found.get(), emailDomain);
+        } else if (generation.get() == loadGeneration) {
+            rememberMiss(missKey);
+        }
+        return found;
+    }
+
+    private synchronized void add(PollifyTenant tenant, String emailDomain) {
+        Snapshot current = snapshot;
+        if (current != null) {
+            snapshot = current.with(tenant, emailDomain);
+        }
+    }
+
+    private void rememberMiss(String missKey) {
+        if (misses.size() >= maxCachedMisses) {
+            long now = System.nanoTime();
+            misses.values().removeIf(until -> now - until >= 0);
+            if (misses.size() >= maxCachedMisses) {
+                // Mostly guessed keys; they keep costing a query rather than growing the map
+                return;
+            }
+        }
+        misses.put(missKey, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(missTtlMs));
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            return snapshot != null ? snapshot : reload();
+        }
+    }
+
+    private synchronized Snapshot reload() {
+        long loadGeneration = generation.get();
+        Snapshot loaded = TenantContext.callWithTenant(null, this::load);
+        if (generation.get() == loadGeneration) {
+            snapshot = loaded;
+        }
+        return loaded;
+    }
+
+    private Snapshot load() {
+        List<PollifyTenant> tenants = tenantRepository.findAll();
+        List<EmailDomainIndex> domains = emailDomainIndexRepository.findAll();
+
+        Map<String, PollifyTenant> byId = new HashMap<>();
+        Map<String, PollifyTenant> bySchema = new HashMap<>();
+        Map<String, PollifyTenant> bySchoolCode = new HashMap<>();
+        Map<String, PollifyTenant> byAdminEmail = new HashMap<>();
+        for (PollifyTenant tenant : tenants) {
+            byId.put(tenant.getTenantId(), tenant);
+            bySchema.put(tenant.getDatabaseSchema(), tenant);
+            if (tenant.getSchoolCode() != null) {
+                bySchoolCode.put(tenant.getSchoolCode(), tenant);
+            }
+            byAdminEmail.put(tenant.getAdminEmail(), tenant);
+        }
+
+        Map<String, PollifyTenant> byEmailDomain = new HashMap<>();
+        for (EmailDomainIndex domain : domains) {
+            PollifyTenant tenant = byId.get(domain.getTenantId());
+            if (tenant != null) {
+                byEmailDomain.put(domain.getEmailDomain(), tenant);
+            }
+        }
+
+        log.info("Tenant registry loaded - {} tenant(s), {} email domain(s)", tenants.size(), byEmailDomain.size());
+        return new Snapshot(Map.copyOf(byId), Map.copyOf(bySchema), Map.copyOf(byEmailDomain),
+                Map.copyOf(bySchoolCode), Map.copyOf(byAdminEmail));
+    }
+
+    private record Snapshot(
+            Map<String, PollifyTenant> byId,
+            Map<String, PollifyTenant> bySchema,
+            Map<String, PollifyTenant> byEmailDomain,
+            Map<String, PollifyTenant> bySchoolCode,
+            Map<String, PollifyTenant> byAdminEmail) {
+
+        /**
+         * Copy with the tenant's row replaced or added; its email domains are kept and,
+         * if given, emailDomain is added
+         */
+        private Snapshot with(PollifyTenant tenant, String emailDomain) {
+            Map<String, PollifyTenant> domains = new HashMap<>(byEmailDomain);
+            domains.replaceAll((domain, existing) -> sameTenant(existing, tenant) ? tenant : existing);
+            if (emailDomain != null) {
+                domains.put(emailDomain, tenant);
+            }
+            return new Snapshot(
+                    put(byId, tenant.getTenantId(), tenant),
+                    put(bySchema, tenant.getDatabaseSchema(), tenant),
+                    Map.copyOf(domains),
+                    put(bySchoolCode, tenant.getSchoolCode(), tenant),
+                    put(byAdminEmail, tenant.getAdminEmail(), tenant));
+        }
+
+        private static Map<String, PollifyTenant> put(Map<String, PollifyTenant> index, String key, PollifyTenant tenant) {
+            Map<String, PollifyTenant> copy = new HashMap<>(index);
+            copy.values().removeIf(existing -> sameTenant(existing, tenant));
+            if (key != null) {
+                copy.put(key, tenant);
+            }
+            return Map.copyOf(copy);
+        }
+
+        private static boolean sameTenant(PollifyTenant a, PollifyTenant b) {
+            return a.getTenantId().equals(b.getTenantId());
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.pollify.admin.service;
 
+import com.pollify.admin.multitenancy.SchemaMultiTenantConnectionProvider;
+import com.pollify.admin.multitenancy.TenantContext;
 import com.pollify.admin.multitenancy.TenantIdentifierResolver;
 import lombok.extern.slf4j.Slf4j;
 import org.flywaydb.core.Flyway;
@@ -24,9 +26,13 @@ public class TenantSchemaService {
     private static final int MAX_SCHEMA_NAME_LENGTH = 63; // PostgreSQL identifier length limit
 
     private final DataSource dataSource;
+    private final SchemaMultiTenantConnectionProvider connectionProvider;
 
-    public TenantSchemaService(DataSource dataSource) {
+    public TenantSchemaService(
+            DataSource dataSource,
+            SchemaMultiTenantConnectionProvider connectionProvider) {
         this.dataSource = dataSource;
+        this.connectionProvider = connectionProvider;
     }
 
     /**
@@ -67,6 +73,7 @@ public class TenantSchemaService {
             throw new RuntimeException("Schema creation failed for tenant: " + tenantId, e);
         } finally {
             if (conn != null) {
+                connectionProvider.forgetSearchPath(conn);
                 try {
                     conn.close();
                 } catch (SQLException e) {
@@ -84,7 +91,8 @@ public class TenantSchemaService {
         
         validateTenantIdentifier(tenantId);
 
-        // Set tenant context before running migrations
+        // Set tenant context before running migrations; the caller's context is restored after
+        TenantContext.Snapshot caller = TenantContext.snapshot();
         TenantIdentifierResolver.setCurrentTenant(tenantId);
         
         try {
@@ -107,13 +115,14 @@ public class TenantSchemaService {
                 log.info("Migrations applied successfully for tenant: {}", tenantId);
                 
             } finally {
+                connectionProvider.forgetSearchPath(conn);
                 conn.close();
             }
         } catch (SQLException e) {
             log.error("Failed to apply migrations for tenant: {}", tenantId, e);
             throw new RuntimeException("Migration failed for tenant: " + tenantId, e);
         } finally {
-            TenantIdentifierResolver.clear();
+            caller.restore();
         }
     }
 
@@ -0,0 +1,370 @@
+package com.pollify.admin.service;
+
+import com.pollify.admin.multitenancy.TenantContext;
+import com.pollify.admin.repository.tenant.VoteBatchRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Epic 7: Sharded in-memory vote counters keyed by (tenant, election, candidate).
+ * When pollify.voting.counters.mode=sharded, votes bump a striped LongAdder instead of
+ * updating the candidate row, and a scheduled flusher writes the accumulated deltas back
+ * to candidate.vote_count with one statement per election. Live results read
+ * flushed value + unflushed delta, so the hot candidate row is touched once per flush.
+ * Vote transactions are tracked from registration to completion, so reconciliation can tell
+ * whether a committed vote might not have reached its counter yet (see {@link #beginReconciliation}).
+ * Counters of an election are dropped once it is idle after a flush - always once it closed,
+ * otherwise after a flush round without votes - and re-seeded from the database when read again.
+ */
+@Component
+@Slf4j
+public class VoteCounterRegistry {
+
+    private static final String MODE_SHARDED = "sharded";
+
+    private final VoteBatchRepository voteBatchRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${pollify.voting.counters.mode:direct}")
+    private String mode;
+
+    // tenant -> election -> counters
+    private final Map<String, Map<UUID, ElectionCounters>> tenants = new ConcurrentHashMap<>();
+
+    public VoteCounterRegistry(
+            VoteBatchRepository voteBatchRepository,
+            TransactionTemplate transactionTemplate) {
+        this.voteBatchRepository = voteBatchRepository;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    public boolean isSharded() {
+        return MODE_SHARDED.equalsIgnoreCase(mode);
+    }
+
+    /**
+     * Adds committed votes to a candidate's counter
+     */
+    public void increment(String tenantId, UUID electionId, UUID candidateId, long delta) {
+        counters(tenantId, electionId).cell(candidateId).pending.add(delta);
+    }
+
+    /**
+     * Counts a vote once the surrounding transaction commits; rolled back votes are never counted
+     */
+    public void incrementAfterCommit(String tenantId, UUID electionId, UUID candidateId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            beginCommit(tenantId, electionId);
+            try {
+                increment(tenantId, electionId, candidateId, 1);
+            } finally {
+                endCommit(tenantId, electionId);
+            }
+            return;
+        }
+        beginCommit(tenantId, electionId);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                increment(tenantId, electionId, candidateId, 1);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                endCommit(tenantId, electionId);
+            }
+        });
+    }
+
+    /**
+     * Marks votes of the election as being committed; their counter increments follow before
+     * the matching {@link #endCommit}. Callers that increment outside a transaction
+     * synchronization (write-behind) bracket their insert and increments with these.
+     */
+    public void beginCommit(String tenantId, UUID electionId) {
+        while (true) {
+            ElectionCounters counters = counters(tenantId, electionId);
+            synchronized (counters) {
+                // Evicted counters are being removed from the map; retry on the replacement
+                if (!counters.evicted) {
+                    counters.committing++;
+                    counters.sequence++;
+                    return;
+                }
+            }
+        }
+    }
+
+    public void endCommit(String tenantId, UUID electionId) {
+        ElectionCounters counters = counters(tenantId, electionId);
+        synchronized (counters) {
+            counters.committing--;
+            counters.sequence++;
+        }
+    }
+
+    /**
+     * Pauses flushing of the election and snapshots its unflushed deltas. Must be called before
+     * the candidate rows are locked (a running flush may be waiting on them) and closed in a finally.
+     * If {@link Reconciliation#isQuiescent()} holds after the vote table was counted, no vote
+     * committed during the count, so actual - unflushed is safe to write to candidate.vote_count.
+     */
+    public Reconciliation beginReconciliation(String tenantId, UUID electionId) {
+        while (true) {
+            ElectionCounters counters = counters(tenantId, electionId);
+            try {
+                if (!counters.flushLock.tryLock(10, TimeUnit.SECONDS)) {
+                    throw new IllegalStateException("Vote counters of election " + electionId + " are busy flushing");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while pausing vote counter flushes", e);
+            }
+
+            synchronized (counters) {
+                if (!counters.evicted) {
+                    Map<UUID, Long> unflushed = new HashMap<>();
+                    counters.cells.forEach((candidateId, cell) ->
+                            unflushed.put(candidateId, cell.inFlight + cell.pending.sum()));
+                    return new Reconciliation(counters, unflushed, counters.sequence, counters.committing);
+                }
+            }
+            // Evicted by the flush that held the lock; retry on the replacement
+            counters.flushLock.unlock();
+        }
+    }
+
+    /**
+     * Closed elections get no more votes; their counters go after the next successful flush.
+     * Only marks them - flushing from an after-commit callback would join the finished transaction.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onElectionClosed(ElectionClosedEvent event) {
+        Map<UUID, ElectionCounters> elections = tenants.get(event.tenantId());
+        ElectionCounters counters = elections != null ? elections.get(event.electionId()) : null;
+        if (counters != null) {
+            counters.closed = true;
+        }
+    }
+
+    /**
+     * Number of elections with counters held in memory
+     */
+    public int electionCount() {
+        return tenants.values().stream().mapToInt(Map::size).sum();
+    }
+
+    /**
+     * Live vote counts for an election's candidates.
+     * The persisted counts seed the flushed value the first time this node sees a candidate.
+     */
+    public Map<UUID, Long> liveCounts(String tenantId, UUID electionId, Map<UUID, Long> persistedCounts) {
+        ElectionCounters counters = counters(tenantId, electionId);
+        Map<UUID, Long> live = new HashMap<>();
+        synchronized (counters) {
+            persistedCounts.forEach((candidateId, persisted) -> {
+                CandidateCounter cell = counters.cell(candidateId);
+                if (cell.flushed == null) {
+                    cell.flushed = persisted != null ? persisted : 0L;
+                }
+                live.put(candidateId, cell.flushed + cell.inFlight + cell.pending.sum());
+            });
+        }
+        return live;
+    }
+
+    /**
+     * Forgets the flushed values of an election after candidate.vote_count was rewritten
+     * (reconciliation); they are re-seeded from the database on the next read.
+     */
+    public void resetFlushedCounts(String tenantId, UUID electionId) {
+        Map<UUID, ElectionCounters> elections = tenants.get(tenantId);
+        ElectionCounters counters = elections != null ? elections.get(electionId) : null;
+        if (counters == null) {
+            return;
+        }
+        synchronized (counters) {
+            counters.cells.values().forEach(cell -> cell.flushed = null);
+        }
+    }
+
+    /**
+     * Writes accumulated deltas back to candidate.vote_count - one statement per election
+     */
+    @Scheduled(fixedDelayString = "${pollify.voting.counters.flush-interval-ms:1000}")
+    public void flush() {
+        if (!isSharded()) {
+            return;
+        }
+        tenants.forEach((tenantId, elections) ->
+                elections.forEach((electionId, counters) -> flushElection(tenantId, electionId, counters)));
+    }
+
+    private void flushElection(String tenantId, UUID electionId, ElectionCounters counters) {
+        // Paused while the election is being reconciled; its deltas wait for the next round
+        if (!counters.flushLock.tryLock()) {
+            return;
+        }
+        try {
+            if (flushDeltas(tenantId, electionId, counters)) {
+                evictIfIdle(tenantId, electionId, counters);
+            }
+        } finally {
+            counters.flushLock.unlock();
+        }
+    }
+
+    /**
+     * Drops the election's counters if nothing is pending, in flight or being committed, and the
+     * election closed or saw no vote since the previous flush. Safe without losing votes: increments
+     * only happen between beginCommit and endCommit, which never run on evicted counters.
+     */
+    private void evictIfIdle(String tenantId, UUID electionId, ElectionCounters counters) {
+        synchronized (counters) {
+            boolean drained = counters.committing == 0 && counters.cells.values().stream()
+                    .allMatch(cell -> cell.inFlight == 0 && cell.pending.sum() == 0);
+            boolean quiet = counters.closed || counters.sequence == counters.flushedSequence;
+            counters.flushedSequence = counters.sequence;
+            if (!drained || !quiet) {
+                return;
+            }
+            counters.evicted = true;
+        }
+        // Tenant maps stay: removing them could orphan a map another thread is inserting into
+        tenants.get(tenantId).remove(electionId, counters);
+        log.debug("Evicted vote counters of election: {} in tenant: {}", electionId, tenantId);
+    }
+
+    private boolean flushDeltas(String tenantId, UUID electionId, ElectionCounters counters) {
+        Map<UUID, Long> deltas = new HashMap<>();
+        synchronized (counters) {
+            counters.cells.forEach((candidateId, cell) -> {
+                long delta = cell.pending.sumThenReset();
+                if (delta != 0) {
+                    cell.inFlight += delta;
+                    deltas.put(candidateId, delta);
+                }
+            });
+        }
+        if (deltas.isEmpty()) {
+            return true;
+        }
+
+        TenantContext.Snapshot caller = TenantContext.snapshot();
+        TenantContext.setTenantId(tenantId);
+        try {
+            Map<UUID, Long> newCounts = transactionTemplate.execute(status ->
+                    voteBatchRepository.incrementVoteCounts(deltas));
+
+            synchronized (counters) {
+                deltas.forEach((candidateId, delta) -> {
+                    CandidateCounter cell = counters.cell(candidateId);
+                    cell.inFlight -= delta;
+                    cell.flushed = newCounts.get(candidateId);
+                });
+            }
+            log.debug("Flushed vote counters for election: {} in tenant: {} - {} candidate(s)",
+                    electionId, tenantId, deltas.size());
+            return true;
+
+        } catch (RuntimeException e) {
+            // Keep the deltas for the next flush
+            synchronized (counters) {
+                deltas.forEach((candidateId, delta) -> {
+                    CandidateCounter cell = counters.cell(candidateId);
+                    cell.inFlight -= delta;
+                    cell.pending.add(delta);
+                });
+            }
+            log.error("Vote counter flush failed for election: {} in tenant: {}", electionId, tenantId, e);
+            return false;
+        } finally {
+            caller.restore();
+        }
+    }
+
+    private ElectionCounters counters(String tenantId, UUID electionId) {
+        return tenants.computeIfAbsent(tenantId, id -> new ConcurrentHashMap<>())
+                .computeIfAbsent(electionId, id -> new ElectionCounters());
+    }
+
+    /**
+     * Snapshot taken by {@link #beginReconciliation}; closing it resumes flushing
+     */
+    public static final class Reconciliation implements AutoCloseable {
+
+        private final ElectionCounters counters;
+        private final Map<UUID, Long> unflushed;
+        private final long sequence;
+        private final int committing;
+
+        private Reconciliation(ElectionCounters counters, Map<UUID, Long> unflushed, long sequence, int committing) {
+            this.counters = counters;
+            this.unflushed = unflushed;
+            this.sequence = sequence;
+            this.committing = committing;
+        }
+
+        public Map<UUID, Long> unflushed() {
+            return unflushed;
+        }
+
+        /**
+         * True if no vote transaction was in flight at the snapshot and none started since
+         */
+        public boolean isQuiescent() {
+            synchronized (counters) {
+                return committing == 0 && counters.committing == 0 && counters.sequence == sequence;
+            }
+        }
+
+        @Override
+        public void close() {
+            counters.flushLock.unlock();
+        }
+    }
+
+    /**
+     * cells are written lock-free; sequence, committing and the eviction state are guarded by the monitor.
+     * flushLock is held for a whole flush of the election, and by a reconciliation to pause flushing.
+     */
+    private static final class ElectionCounters {
+
+        private final Map<UUID, CandidateCounter> cells = new ConcurrentHashMap<>();
+        private final ReentrantLock flushLock = new ReentrantLock();
+        private long sequence;
+        private int committing;
+        private long flushedSequence = -1;
+        private volatile boolean closed;
+        private boolean evicted;
+
+        private CandidateCounter cell(UUID candidateId) {
+            return cells.computeIfAbsent(candidateId, id -> new CandidateCounter());
+        }
+    }
+
+    /**
+     * pending is written lock-free by voters; flushed and inFlight are guarded by the election's monitor
+     */
+    private static final class CandidateCounter {
+
+        private final LongAdder pending = new LongAdder();
+        private long inFlight;
+        private Long flushed;
+    }
+}
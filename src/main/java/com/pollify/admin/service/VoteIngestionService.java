@@ -0,0 +1,446 @@
+package com.pollify.admin.service;
+
+import com.pollify.admin.dto.voting.BallotResponse;
+import com.pollify.admin.dto.voting.CastBallotRequest;
+import com.pollify.admin.dto.voting.CastVoteRequest;
+import com.pollify.admin.dto.voting.VoteResponse;
+import com.pollify.admin.entity.tenant.Vote;
+import com.pollify.admin.multitenancy.TenantContext;
+import com.pollify.admin.repository.tenant.VoteBatchRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Epic 6: Write-behind vote ingestion.
+ * When pollify.voting.ingestion-mode=write-behind, votes are validated against cached
+ * election snapshots, appended to a durable local journal and acknowledged immediately.
+ * A per-tenant writer then flushes them to the tenant vote table in multi-row batches.
+ * The ballot table's primary key still guarantees one ballot per voter per election.
+ * Before an election closes, ElectionLifecycleJob flushes the tenant's queue so the frozen
+ * results include every vote accepted before the end time; votes that still reach the writer
+ * after the close are rejected and logged rather than added to a closed election.
+ */
+@Service
+@Slf4j
+public class VoteIngestionService {
+
+    private static final String MODE_WRITE_BEHIND = "write-behind";
+    private static final String JOURNAL_SUFFIX = ".journal";
+    private static final Pattern TENANT_FILE_NAME_PATTERN = Pattern.compile("^[a-zA-Z0-9_-]+$");
+
+    private final ElectionSnapshotCache electionSnapshotCache;
+    private final VoteBatchRepository voteBatchRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final VoteCounterRegistry voteCounterRegistry;
+    private final VoterBallotIndex voterBallotIndex;
+
+    @Value("${pollify.voting.ingestion-mode:sync}")
+    private String ingestionMode;
+
+    @Value("${pollify.voting.write-behind.journal-dir:./data/vote-journal}")
+    private String journalDir;
+
+    @Value("${pollify.voting.write-behind.fsync:true}")
+    private boolean fsync;
+
+    @Value("${pollify.voting.write-behind.batch-size:500}")
+    private int batchSize;
+
+    @Value("${pollify.voting.write-behind.flush-interval-ms:50}")
+    private long flushIntervalMs;
+
+    @Value("${pollify.voting.write-behind.writer-threads:4}")
+    private int writerThreads;
+
+    private final Map<String, TenantWriter> writers = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService scheduler;
+
+    public VoteIngestionService(
+            ElectionSnapshotCache electionSnapshotCache,
+            VoteBatchRepository voteBatchRepository,
+            TransactionTemplate transactionTemplate,
+            ApplicationEventPublisher eventPublisher,
+            VoteCounterRegistry voteCounterRegistry,
+            VoterBallotIndex voterBallotIndex) {
+        this.electionSnapshotCache = electionSnapshotCache;
+        this.voteBatchRepository = voteBatchRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.voteCounterRegistry = voteCounterRegistry;
+        this.voterBallotIndex = voterBallotIndex;
+    }
+
+    @PostConstruct
+    void start() {
+        if (!isWriteBehind()) {
+            return;
+        }
+        scheduler = Executors.newScheduledThreadPool(writerThreads, runnable -> {
+            Thread thread = new Thread(runnable, "vote-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        log.info("Write-behind vote ingestion enabled - journal: {}, batch size: {}, flush interval: {}ms",
+                journalDir, batchSize, flushIntervalMs);
+    }
+
+    public boolean isWriteBehind() {
+        return MODE_WRITE_BEHIND.equalsIgnoreCase(ingestionMode);
+    }
+
+    /**
+     * Epic 6 - Story 6.3: Cast vote (write-behind mode).
+     * Performs no database round trip once the election snapshot and voter index are warm.
+     */
+    public VoteResponse acceptVote(CastVoteRequest request, UUID voterId) {
+        String tenantId = TenantContext.getTenantId();
+        if (tenantId == null) {
+            throw new IllegalStateException("Tenant context not set");
+        }
+
+        // 1. Verify election is ACTIVE and inside its time window
+        ElectionSnapshot election = electionSnapshotCache.get(tenantId, request.getElectionId());
+        // Microseconds, as stored in ballot.cast_at, so journal replay matches the ballot row exactly
+        OffsetDateTime now = OffsetDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        election.requireVotingOpen(now);
+
+        // 2. Verify candidate belongs to this election
+        if (!election.hasCandidate(request.getCandidateId())) {
+            throw new IllegalArgumentException("Candidate does not belong to this election");
+        }
+
+        // 3. Reserve the voter's slot (atomic - concurrent duplicates lose here)
+        if (!voterBallotIndex.markVoted(tenantId, request.getElectionId(), voterId)) {
+            throw new IllegalArgumentException("You have already voted in this election");
+        }
+
+        Vote vote = new Vote();
+        vote.setId(UUID.randomUUID());
+        vote.setVoterId(voterId);
+        vote.setElectionId(request.getElectionId());
+        vote.setCandidateId(request.getCandidateId());
+        vote.setPosition(election.positionOf(request.getCandidateId()));
+        vote.setVotedAt(now);
+
+        // 4. Journal before acknowledging
+        try {
+            writerFor(tenantId).append(List.of(vote));
+        } catch (IOException e) {
+            voterBallotIndex.unmarkVoted(tenantId, request.getElectionId(), voterId);
+            log.error("Failed to journal vote for election: {} in tenant: {}", request.getElectionId(), tenantId, e);
+            throw new IllegalStateException("Could not record your vote. Please try again.", e);
+        }
+
+        log.info("Vote accepted (write-behind) - Voter: {}, Election: {}, Candidate: {} in tenant: {}",
+                voterId, request.getElectionId(), request.getCandidateId(), tenantId);
+
+        return new VoteResponse(true, "Vote cast successfully!", vote.getId().toString());
+    }
+
+    /**
+     * Epic 6: Cast a full ballot (write-behind mode).
+     * All selections are journaled with one write and flushed with the next batch.
+     */
+    public BallotResponse acceptBallot(CastBallotRequest request, UUID voterId) {
+        String tenantId = TenantContext.getTenantId();
+        if (tenantId == null) {
+            throw new IllegalStateException("Tenant context not set");
+        }
+
+        // 1. Verify election is ACTIVE and inside its time window
+        ElectionSnapshot election = electionSnapshotCache.get(tenantId, request.getElectionId());
+        // Microseconds, as stored in ballot.cast_at, so journal replay matches the ballot row exactly
+        OffsetDateTime now = OffsetDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        election.requireVotingOpen(now);
+
+        // 2. Validate selections - every candidate in this election, one per position
+        Map<String, UUID> selections = election.ballotSelections(request.getCandidateIds());
+
+        // 3. Reserve the voter's slot (atomic - concurrent duplicates lose here)
+        if (!voterBallotIndex.markVoted(tenantId, request.getElectionId(), voterId)) {
+            throw new IllegalArgumentException("You have already voted in this election");
+        }
+
+        List<Vote> votes = new ArrayList<>(selections.size());
+        selections.forEach((position, candidateId) -> {
+            Vote vote = new Vote();
+            vote.setId(UUID.randomUUID());
+            vote.setVoterId(voterId);
+            vote.setElectionId(request.getElectionId());
+            vote.setCandidateId(candidateId);
+            vote.setPosition(position);
+            vote.setVotedAt(now);
+            votes.add(vote);
+        });
+
+        // 4. Journal before acknowledging
+        try {
+            writerFor(tenantId).append(votes);
+        } catch (IOException e) {
+            voterBallotIndex.unmarkVoted(tenantId, request.getElectionId(), voterId);
+            log.error("Failed to journal ballot for election: {} in tenant: {}", request.getElectionId(), tenantId, e);
+            throw new IllegalStateException("Could not record your ballot. Please try again.", e);
+        }
+
+        log.info("Ballot accepted (write-behind) - Voter: {}, Election: {}, {} selection(s) in tenant: {}",
+                voterId, request.getElectionId(), votes.size(), tenantId);
+
+        return new BallotResponse(
+                true,
+                "Ballot cast successfully!",
+                votes.stream().map(vote -> vote.getId().toString()).toList());
+    }
+
+    /**
+     * Replays journals left behind by a previous run. Votes already flushed before the crash
+     * are skipped by ON CONFLICT DO NOTHING, so replay is idempotent.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverJournals() {
+        if (!isWriteBehind()) {
+            return;
+        }
+
+        Path dir = Paths.get(journalDir);
+        if (!Files.isDirectory(dir)) {
+            return;
+        }
+
+        try (DirectoryStream<Path> journals = Files.newDirectoryStream(dir, "*" + JOURNAL_SUFFIX)) {
+            for (Path file : journals) {
+                String fileName = file.getFileName().toString();
+                String tenantId = fileName.substring(0, fileName.length() - JOURNAL_SUFFIX.length());
+                TenantWriter writer = writerFor(tenantId);
+                List<Vote> votes = writer.journal.readAll();
+                writer.pending.addAll(votes);
+                votes.forEach(vote -> voterBallotIndex.recordVoter(tenantId, vote.getElectionId(), vote.getVoterId()));
+                if (!votes.isEmpty()) {
+                    log.info("Recovered {} journaled vote(s) for tenant: {}", votes.size(), tenantId);
+                }
+            }
+        } catch (IOException e) {
+            log.error("Failed to recover vote journals from {}", dir, e);
+        }
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        if (scheduler == null) {
+            return;
+        }
+        scheduler.shutdown();
+        scheduler.awaitTermination(10, TimeUnit.SECONDS);
+
+        for (TenantWriter writer : writers.values()) {
+            writer.flush();
+            try {
+                writer.journal.close();
+            } catch (IOException e) {
+                log.warn("Failed to close vote journal for tenant: {}", writer.tenantId, e);
+            }
+        }
+    }
+
+    /**
+     * Writes every vote this node has queued for the tenant, waiting for a flush already in progress
+     *
+     * @return false if a flush failed; the votes stay queued and journaled
+     */
+    public boolean flushTenant(String tenantId) {
+        if (!isWriteBehind()) {
+            return true;
+        }
+        TenantWriter writer = writers.get(tenantId);
+        return writer == null || writer.flush();
+    }
+
+    private TenantWriter writerFor(String tenantId) {
+        return writers.computeIfAbsent(tenantId, this::openWriter);
+    }
+
+    private TenantWriter openWriter(String tenantId) {
+        if (!TENANT_FILE_NAME_PATTERN.matcher(tenantId).matches()) {
+            throw new IllegalArgumentException("Invalid tenant identifier format: " + tenantId);
+        }
+        try {
+            Path dir = Paths.get(journalDir);
+            Files.createDirectories(dir);
+            TenantWriter writer = new TenantWriter(tenantId, new VoteJournal(dir.resolve(tenantId + JOURNAL_SUFFIX), fsync));
+            scheduler.scheduleWithFixedDelay(writer::flush, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+            return writer;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open vote journal for tenant: " + tenantId, e);
+        }
+    }
+
+    /**
+     * Owns one tenant's journal and pending queue. Flushes run serially on the writer pool.
+     */
+    private final class TenantWriter {
+
+        private final String tenantId;
+        private final VoteJournal journal;
+        private final BlockingDeque<Vote> pending = new LinkedBlockingDeque<>();
+        // Flushes from the scheduler and flushTenant run one at a time
+        private final Object flushLock = new Object();
+
+        private TenantWriter(String tenantId, VoteJournal journal) {
+            this.tenantId = tenantId;
+            this.journal = journal;
+        }
+
+        private synchronized void append(List<Vote> votes) throws IOException {
+            journal.append(votes);
+            pending.addAll(votes);
+        }
+
+        /**
+         * @return true once the queue is empty, false if a batch failed and was put back
+         */
+        private boolean flush() {
+            synchronized (flushLock) {
+                return flushPending();
+            }
+        }
+
+        private boolean flushPending() {
+            while (true) {
+                List<Vote> batch = new ArrayList<>(batchSize);
+                pending.drainTo(batch, batchSize);
+                if (batch.isEmpty()) {
+                    return true;
+                }
+
+                try {
+                    write(batch);
+                } catch (RuntimeException e) {
+                    // Put the batch back in order; the journal still holds it
+                    for (int i = batch.size() - 1; i >= 0; i--) {
+                        pending.addFirst(batch.get(i));
+                    }
+                    log.error("Vote flush failed for tenant: {} - {} vote(s) will be retried",
+                            tenantId, batch.size(), e);
+                    return false;
+                }
+
+                batch.stream()
+                        .collect(Collectors.groupingBy(Vote::getElectionId, LinkedHashMap::new, Collectors.counting()))
+                        .forEach((electionId, count) -> eventPublisher.publishEvent(
+                                new VotesCommittedEvent(tenantId, electionId, count.intValue())));
+
+                synchronized (this) {
+                    if (pending.isEmpty()) {
+                        try {
+                            journal.truncate();
+                        } catch (IOException e) {
+                            log.warn("Failed to truncate vote journal for tenant: {}", tenantId, e);
+                        }
+                    }
+                }
+            }
+        }
+
+        private void write(List<Vote> batch) {
+            TenantContext.Snapshot caller = TenantContext.snapshot();
+            TenantContext.setTenantId(tenantId);
+            try {
+                // Journals written before positions were recorded
+                for (Vote vote : batch) {
+                    if (vote.getPosition() == null) {
+                        vote.setPosition(electionSnapshotCache.get(tenantId, vote.getElectionId())
+                                .positionOf(vote.getCandidateId()));
+                    }
+                }
+
+                Map<UUID, UUID> electionByCandidate = new HashMap<>();
+                batch.forEach(vote -> electionByCandidate.put(vote.getCandidateId(), vote.getElectionId()));
+
+                // Sharded counters are bumped after the commit; reconciliation must see that as in flight
+                Set<UUID> electionIds = new HashSet<>(electionByCandidate.values());
+                if (voteCounterRegistry.isSharded()) {
+                    electionIds.forEach(electionId -> voteCounterRegistry.beginCommit(tenantId, electionId));
+                }
+                List<Vote> late = new ArrayList<>();
+                List<UUID> insertedCandidateIds;
+                try {
+                    insertedCandidateIds = transactionTemplate.execute(status -> {
+                        // Holds off a concurrent close until this commits; closed elections take no more votes
+                        Set<UUID> open = voteBatchRepository.lockOpenElections(electionIds);
+                        List<Vote> accepted = new ArrayList<>(batch.size());
+                        late.clear();
+                        batch.forEach(vote -> (open.contains(vote.getElectionId()) ? accepted : late).add(vote));
+                        List<UUID> inserted = accepted.isEmpty()
+                                ? List.of()
+                                : voteBatchRepository.insertIgnoringDuplicates(accepted);
+                        if (!voteCounterRegistry.isSharded()) {
+                            voteBatchRepository.incrementVoteCounts(inserted.stream()
+                                    .collect(Collectors.groupingBy(Function.identity(), Collectors.counting())));
+                        }
+                        return inserted;
+                    });
+
+                    if (voteCounterRegistry.isSharded()) {
+                        for (UUID candidateId : insertedCandidateIds) {
+                            voteCounterRegistry.increment(tenantId, electionByCandidate.get(candidateId), candidateId, 1);
+                        }
+                    }
+                } finally {
+                    if (voteCounterRegistry.isSharded()) {
+                        electionIds.forEach(electionId -> voteCounterRegistry.endCommit(tenantId, electionId));
+                    }
+                }
+
+                if (!late.isEmpty()) {
+                    late.stream()
+                            .collect(Collectors.groupingBy(Vote::getElectionId, LinkedHashMap::new, Collectors.counting()))
+                            .forEach((electionId, count) -> log.error(
+                                    "Rejected {} vote(s) written after election: {} closed in tenant: {}",
+                                    count, electionId, tenantId));
+                }
+                int duplicates = batch.size() - late.size() - insertedCandidateIds.size();
+                if (duplicates > 0) {
+                    log.warn("{} duplicate vote(s) rejected by the ballot table in tenant: {}",
+                            duplicates, tenantId);
+                }
+                log.debug("Flushed {} vote(s) for tenant: {}", insertedCandidateIds.size(), tenantId);
+            } finally {
+                caller.restore();
+            }
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.pollify.admin.service;
+
+import com.pollify.admin.entity.tenant.Vote;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Append-only local journal of accepted votes that are not yet in the tenant vote table.
+ * One line per vote: voteId,voterId,electionId,candidateId,votedAt,position
+ * (votedAt is an ISO-8601 instant at full precision, because a replayed ballot must match the
+ * cast_at of a ballot row committed before a crash; older lines hold epoch millis.
+ * position is Base64 encoded; lines written before positions were journaled have five fields).
+ */
+class VoteJournal implements AutoCloseable {
+
+    private static final Base64.Encoder POSITION_ENCODER = Base64.getEncoder();
+    private static final Base64.Decoder POSITION_DECODER = Base64.getDecoder();
+
+    private final Path file;
+    private final boolean fsync;
+    private final FileChannel channel;
+
+    VoteJournal(Path file, boolean fsync) throws IOException {
+        this.file = file;
+        this.fsync = fsync;
+        this.channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Appends votes with a single write. When fsync is enabled the call returns only once
+     * the records are on disk.
+     */
+    synchronized void append(List<Vote> votes) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (Vote vote : votes) {
+            lines.append(vote.getId()).append(',')
+                    .append(vote.getVoterId()).append(',')
+                    .append(vote.getElectionId()).append(',')
+                    .append(vote.getCandidateId()).append(',')
+                    .append(vote.getVotedAt().toInstant()).append(',')
+                    .append(POSITION_ENCODER.encodeToString(vote.getPosition().getBytes(StandardCharsets.UTF_8)))
+                    .append('\n');
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.US_ASCII));
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        if (fsync) {
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Discards all records. Only safe once every journaled vote has been committed.
+     */
+    synchronized void truncate() throws IOException {
+        channel.truncate(0);
+        if (fsync) {
+            channel.force(false);
+        }
+    }
+
+    synchronized long size() throws IOException {
+        return channel.size();
+    }
+
+    /**
+     * Reads back every complete record, skipping a torn last line left by a crash mid-write.
+     */
+    List<Vote> readAll() throws IOException {
+        List<Vote> votes = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.US_ASCII)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] parts = line.split(",");
+                if (parts.length != 5 && parts.length != 6) {
+                    continue;
+                }
+                try {
+                    Vote vote = new Vote();
+                    vote.setId(UUID.fromString(parts[0]));
+                    vote.setVoterId(UUID.fromString(parts[1]));
+                    vote.setElectionId(UUID.fromString(parts[2]));
+                    vote.setCandidateId(UUID.fromString(parts[3]));
+                    vote.setVotedAt(OffsetDateTime.ofInstant(parseInstant(parts[4]), ZoneOffset.UTC));
+                    if (parts.length == 6) {
+                        vote.setPosition(new String(POSITION_DECODER.decode(parts[5]), StandardCharsets.UTF_8));
+                    }
+                    votes.add(vote);
+                } catch (IllegalArgumentException e) {
+                    // Torn or corrupt record - nothing after a crash mid-append is recoverable
+                }
+            }
+        }
+        return votes;
+    }
+
+    private static Instant parseInstant(String value) {
+        try {
+            return value.indexOf('T') >= 0 ? Instant.parse(value) : Instant.ofEpochMilli(Long.parseLong(value));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,90 @@
+package com.pollify.admin.service;
+
+import com.pollify.admin.dto.election.VoteReconciliationReport;
+import com.pollify.admin.entity.master.PollifyTenant;
+import com.pollify.admin.entity.tenant.Election;
+import com.pollify.admin.multitenancy.TenantContext;
+import com.pollify.admin.repository.master.PollifyTenantRepository;
+import com.pollify.admin.repository.tenant.ElectionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Periodically reconciles vote counts of ACTIVE elections across all tenant schemas.
+ * With sharded vote counters it also rebuilds candidate.vote_count from the vote table
+ * on startup, recovering any deltas that were not flushed before the last shutdown.
+ */
+@Component
+@Slf4j
+public class VoteReconciliationJob {
+
+    @Value("${pollify.voting.reconciliation.enabled:true}")
+    private boolean enabled;
+
+    private final PollifyTenantRepository tenantRepository;
+    private final ElectionRepository electionRepository;
+    private final VoteReconciliationService reconciliationService;
+    private final VoteCounterRegistry voteCounterRegistry;
+
+    public VoteReconciliationJob(
+            PollifyTenantRepository tenantRepository,
+            ElectionRepository electionRepository,
+            VoteReconciliationService reconciliationService,
+            VoteCounterRegistry voteCounterRegistry) {
+        this.tenantRepository = tenantRepository;
+        this.electionRepository = electionRepository;
+        this.reconciliationService = reconciliationService;
+        this.voteCounterRegistry = voteCounterRegistry;
+    }
+
+    @Scheduled(
+            initialDelayString = "${pollify.voting.reconciliation.interval-ms:300000}",
+            fixedDelayString = "${pollify.voting.reconciliation.interval-ms:300000}")
+    public void reconcileActiveElections() {
+        if (enabled) {
+            reconcileAllTenants();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildCountersOnStartup() {
+        if (voteCounterRegistry.isSharded()) {
+            log.info("Rebuilding vote counts from vote table aggregates");
+            reconcileAllTenants();
+        }
+    }
+
+    private void reconcileAllTenants() {
+        // Query the tenant registry in the master context
+        List<PollifyTenant> tenants = TenantContext.callWithTenant(null, () -> tenantRepository.findAll());
+
+        int drifted = 0;
+        for (PollifyTenant tenant : tenants) {
+            TenantContext.Snapshot caller = TenantContext.snapshot();
+            TenantContext.setTenantId(tenant.getDatabaseSchema());
+            try {
+                for (Election election : electionRepository.findByElectionStatus(Election.ElectionStatus.ACTIVE)) {
+                    VoteReconciliationReport report = reconciliationService.reconcileElection(election.getId());
+                    if (Boolean.TRUE.equals(report.getApplied())) {
+                        drifted += report.getCorrections().size();
+                    }
+                }
+            } catch (Exception e) {
+                log.error("Vote reconciliation failed for tenant: {}", tenant.getTenantId(), e);
+                // Continue with other tenants even if one fails
+            } finally {
+                caller.restore();
+            }
+        }
+
+        if (drifted > 0) {
+            log.warn("Vote reconciliation corrected {} candidate count(s) across {} tenant(s)", drifted, tenants.size());
+        }
+    }
+}
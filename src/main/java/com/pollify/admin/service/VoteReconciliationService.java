@@ -0,0 +1,140 @@
+package com.pollify.admin.service;
+
+import com.pollify.admin.dto.election.CandidateVoteDrift;
+import com.pollify.admin.dto.election.VoteReconciliationReport;
+import com.pollify.admin.entity.tenant.Candidate;
+import com.pollify.admin.multitenancy.TenantContext;
+import com.pollify.admin.repository.tenant.CandidateRepository;
+import com.pollify.admin.repository.tenant.ElectionRepository;
+import com.pollify.admin.repository.tenant.VoteRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Epic 6: Vote count reconciliation
+ * Recomputes candidate.vote_count from the vote table and reports any drift
+ */
+@Service
+@Slf4j
+public class VoteReconciliationService {
+
+    private final ElectionRepository electionRepository;
+    private final CandidateRepository candidateRepository;
+    private final VoteRepository voteRepository;
+    private final VoteCounterRegistry voteCounterRegistry;
+    private final ResultsVersionRegistry resultsVersionRegistry;
+
+    public VoteReconciliationService(
+            ElectionRepository electionRepository,
+            CandidateRepository candidateRepository,
+            VoteRepository voteRepository,
+            VoteCounterRegistry voteCounterRegistry,
+            ResultsVersionRegistry resultsVersionRegistry) {
+        this.electionRepository = electionRepository;
+        this.candidateRepository = candidateRepository;
+        this.voteRepository = voteRepository;
+        this.voteCounterRegistry = voteCounterRegistry;
+        this.resultsVersionRegistry = resultsVersionRegistry;
+    }
+
+    /**
+     * Reconcile vote counts for one election in the current tenant.
+     * With sharded counters, drift is only written while the election's counters are quiescent:
+     * a vote committed during the count but not yet added to its counter would otherwise be
+     * written into vote_count and then added again by the next flush. Busy elections get a
+     * report with applied=false and are corrected on a later run.
+     */
+    @Transactional
+    public VoteReconciliationReport reconcileElection(UUID electionId) {
+        if (!electionRepository.existsById(electionId)) {
+            throw new IllegalArgumentException("Election not found");
+        }
+        if (!voteCounterRegistry.isSharded()) {
+            return reconcile(electionId, null);
+        }
+
+        // Flushing is paused before the candidate rows are locked - a running flush may hold them
+        try (VoteCounterRegistry.Reconciliation counters =
+                     voteCounterRegistry.beginReconciliation(TenantContext.getTenantId(), electionId)) {
+            return reconcile(electionId, counters);
+        }
+    }
+
+    private VoteReconciliationReport reconcile(UUID electionId, VoteCounterRegistry.Reconciliation counters) {
+        // 1. Lock candidate rows first so in-flight increments settle before counting
+        List<Candidate> candidates = candidateRepository.findByElectionIdForUpdate(electionId);
+
+        // 2. Count in a separate statement - its snapshot sees every vote whose increment is committed
+        Map<UUID, Long> actualCounts = voteRepository.countVotesByCandidate(electionId).stream()
+                .collect(Collectors.toMap(
+                        VoteRepository.CandidateVoteCount::getCandidateId,
+                        VoteRepository.CandidateVoteCount::getVoteCount));
+
+        // Sharded counters still hold deltas that are already in the vote table but not yet flushed
+        String tenantId = TenantContext.getTenantId();
+        Map<UUID, Long> unflushedCounts = counters != null ? counters.unflushed() : Map.of();
+        boolean apply = counters == null || counters.isQuiescent();
+
+        // 3. Correct drifted candidates (flushed by dirty checking on commit)
+        List<CandidateVoteDrift> corrections = new ArrayList<>();
+        long totalVotes = 0;
+        for (Candidate candidate : candidates) {
+            long actual = actualCounts.getOrDefault(candidate.getId(), 0L);
+            long recorded = candidate.getVoteCount() != null ? candidate.getVoteCount() : 0L;
+            long unflushed = unflushedCounts.getOrDefault(candidate.getId(), 0L);
+            totalVotes += actual;
+
+            if (actual != recorded + unflushed) {
+                corrections.add(new CandidateVoteDrift(
+                        candidate.getId().toString(),
+                        candidate.getFullName(),
+                        recorded,
+                        actual
+                ));
+                if (apply) {
+                    candidate.setVoteCount(actual - unflushed);
+                    log.warn("Vote count drift corrected - Candidate: {}, Election: {}, recorded: {}, actual: {}",
+                            candidate.getId(), electionId, recorded, actual);
+                }
+            }
+        }
+
+        if (!corrections.isEmpty() && !apply) {
+            log.info("Vote count drift of election: {} not corrected - votes were being counted, retrying next run",
+                    electionId);
+        }
+        if (!corrections.isEmpty() && apply) {
+            resultsVersionRegistry.bumpAfterCommit(tenantId, electionId);
+        }
+        if (!corrections.isEmpty() && apply && counters != null) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    voteCounterRegistry.resetFlushedCounts(tenantId, electionId);
+                }
+            });
+        }
+
+        log.info("Reconciled election: {} - {} candidate(s) checked, {} drifted, applied: {}",
+                electionId, candidates.size(), corrections.size(), apply);
+
+        return new VoteReconciliationReport(
+                electionId.toString(),
+                totalVotes,
+                candidates.size(),
+                corrections,
+                apply,
+                OffsetDateTime.now()
+        );
+    }
+}
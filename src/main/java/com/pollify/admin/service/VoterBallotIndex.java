@@ -0,0 +1,214 @@
+package com.pollify.admin.service;
+
+import com.pollify.admin.dto.election.VoterIndexStats;
+import com.pollify.admin.repository.tenant.VoteRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Epic 6: In-memory "has voted" index per (tenant, election).
+ * Each election keeps the IDs of voters whose ballot is recorded in a {@link LongPairHashSet},
+ * warmed once from the vote table and updated on every accepted vote, so repeat-vote attempts
+ * and has-voted polling after a vote are answered without a database round trip.
+ * The index is node-local and only knows the votes this node accepted or loaded, so a hit is
+ * authoritative but a miss is not: has-voted checks the vote table on a miss, since the vote may
+ * have been cast on another node. The ballot table's primary key remains the final guard against duplicates.
+ * An election's set is dropped once the election closes; has-voted lookups for closed elections go to the vote table.
+ */
+@Component
+@Slf4j
+public class VoterBallotIndex {
+
+    private final VoteRepository voteRepository;
+
+    // tenant -> election -> voters
+    private final Map<String, Map<UUID, ElectionVoters>> tenants = new ConcurrentHashMap<>();
+
+    public VoterBallotIndex(VoteRepository voteRepository) {
+        this.voteRepository = voteRepository;
+    }
+
+    /**
+     * Loads an election's voters from the vote table.
+     * Must run in the tenant context; later calls are no-ops. The query runs outside the
+     * election's monitor, so votes recorded meanwhile are not blocked and are merged with the loaded IDs.
+     */
+    public void warm(String tenantId, UUID electionId) {
+        awaitWarm(voters(tenantId, electionId), tenantId, electionId);
+    }
+
+    /**
+     * A voter found in the index has voted. Otherwise the vote table decides, because another
+     * node may have taken the vote; a vote found there is added to the index, so later checks
+     * and a second ballot on this node are answered from memory.
+     * Must run in the tenant context.
+     */
+    public boolean hasVoted(String tenantId, UUID electionId, UUID voterId) {
+        ElectionVoters voters = voters(tenantId, electionId);
+        synchronized (voters) {
+            if (voters.ids.contains(voterId)) {
+                return true;
+            }
+        }
+        if (!voteRepository.existsByVoterIdAndElectionId(voterId, electionId)) {
+            return false;
+        }
+        synchronized (voters) {
+            voters.ids.add(voterId);
+        }
+        return true;
+    }
+
+    /**
+     * Atomically claims the voter's slot.
+     *
+     * @return false if the voter is already recorded for this election
+     */
+    public boolean markVoted(String tenantId, UUID electionId, UUID voterId) {
+        ElectionVoters voters = warmVoters(tenantId, electionId);
+        synchronized (voters) {
+            return voters.ids.add(voterId);
+        }
+    }
+
+    /**
+     * Records the voter once the surrounding transaction commits; rolled back votes are never recorded
+     */
+    public void markVotedAfterCommit(String tenantId, UUID electionId, UUID voterId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            markVoted(tenantId, electionId, voterId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                markVoted(tenantId, electionId, voterId);
+            }
+        });
+    }
+
+    /**
+     * Releases a slot claimed by a vote that could not be recorded
+     */
+    public void unmarkVoted(String tenantId, UUID electionId, UUID voterId) {
+        ElectionVoters voters = voters(tenantId, electionId);
+        synchronized (voters) {
+            voters.ids.remove(voterId);
+        }
+    }
+
+    /**
+     * Records a voter without warming, e.g. votes replayed from a journal before the
+     * tenant context is available. Warming later merges in the committed votes.
+     */
+    public void recordVoter(String tenantId, UUID electionId, UUID voterId) {
+        ElectionVoters voters = voters(tenantId, electionId);
+        synchronized (voters) {
+            voters.ids.add(voterId);
+        }
+    }
+
+    /**
+     * Drops the closed election's set; no further votes are accepted for it
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onElectionClosed(ElectionClosedEvent event) {
+        Map<UUID, ElectionVoters> elections = tenants.get(event.tenantId());
+        if (elections != null && elections.remove(event.electionId()) != null) {
+            log.info("Voter index evicted for closed election: {} in tenant: {}", event.electionId(), event.tenantId());
+        }
+    }
+
+    /**
+     * Number of elections with a voter set held in memory
+     */
+    public int electionCount() {
+        return tenants.values().stream().mapToInt(Map::size).sum();
+    }
+
+    public VoterIndexStats stats(String tenantId, UUID electionId) {
+        ElectionVoters voters = warmVoters(tenantId, electionId);
+        synchronized (voters) {
+            int size = voters.ids.size();
+            long bytes = voters.ids.memoryBytes();
+            return new VoterIndexStats(
+                    electionId.toString(),
+                    size,
+                    voters.ids.capacity(),
+                    bytes,
+                    size > 0 ? bytes * 100_000 / size : null);
+        }
+    }
+
+    private ElectionVoters warmVoters(String tenantId, UUID electionId) {
+        ElectionVoters voters = voters(tenantId, electionId);
+        if (!voters.warm) {
+            awaitWarm(voters, tenantId, electionId);
+        }
+        return voters;
+    }
+
+    /**
+     * Loads the set if no other caller is, otherwise waits for that caller's load to finish
+     */
+    private void awaitWarm(ElectionVoters voters, String tenantId, UUID electionId) {
+        while (!voters.warm) {
+            CompletableFuture<Void> warming = new CompletableFuture<>();
+            CompletableFuture<Void> existing = voters.warming.compareAndExchange(null, warming);
+            if (existing == null) {
+                load(voters, warming, tenantId, electionId);
+                return;
+            }
+            // A failed load clears the slot so the next caller retries
+            existing.exceptionally(ex -> null).join();
+        }
+    }
+
+    private void load(ElectionVoters voters, CompletableFuture<Void> warming, String tenantId, UUID electionId) {
+        try {
+            List<UUID> voterIds = voteRepository.findVoterIdsByElectionId(electionId);
+            int size;
+            long bytes;
+            synchronized (voters) {
+                voterIds.forEach(voters.ids::add);
+                voters.warm = true;
+                size = voters.ids.size();
+                bytes = voters.ids.memoryBytes();
+            }
+            warming.complete(null);
+            log.info("Voter index warmed for election: {} in tenant: {} - {} voter(s), {} bytes",
+                    electionId, tenantId, size, bytes);
+        } catch (RuntimeException e) {
+            voters.warming.set(null);
+            warming.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private ElectionVoters voters(String tenantId, UUID electionId) {
+        return tenants.computeIfAbsent(tenantId, id -> new ConcurrentHashMap<>())
+                .computeIfAbsent(electionId, id -> new ElectionVoters());
+    }
+
+    /**
+     * ids is guarded by the instance monitor; warm is read outside it as a fast path.
+     * warming holds the in-progress load so only one caller queries the vote table.
+     */
+    private static final class ElectionVoters {
+
+        private final LongPairHashSet ids = new LongPairHashSet();
+        private final AtomicReference<CompletableFuture<Void>> warming = new AtomicReference<>();
+        private volatile boolean warm;
+    }
+}
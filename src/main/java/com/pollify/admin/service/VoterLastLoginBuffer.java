@@ -0,0 +1,79 @@
+package com.pollify.admin.service;
+
+import com.pollify.admin.multitenancy.TenantContext;
+import com.pollify.admin.repository.tenant.VoterBatchRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.OffsetDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Epic 4: Buffers voter last_login timestamps in memory and writes them per tenant in one
+ * JDBC batch every pollify.voters.last-login.flush-interval-ms. A login storm at poll
+ * opening costs one map entry per voter instead of one UPDATE per login; repeated logins
+ * of the same voter between flushes collapse into a single row write.
+ * Timestamps still buffered when a node dies are lost, which only makes last_login older.
+ */
+@Component
+@Slf4j
+public class VoterLastLoginBuffer {
+
+    private final VoterBatchRepository voterBatchRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // tenant -> voter -> latest login
+    private final Map<String, Map<UUID, OffsetDateTime>> tenants = new ConcurrentHashMap<>();
+
+    public VoterLastLoginBuffer(
+            VoterBatchRepository voterBatchRepository,
+            TransactionTemplate transactionTemplate) {
+        this.voterBatchRepository = voterBatchRepository;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    public void record(String tenantId, UUID voterId, OffsetDateTime loginAt) {
+        // Merged inside compute so a concurrent flush never takes the map mid-update
+        tenants.compute(tenantId, (id, voters) -> {
+            Map<UUID, OffsetDateTime> buffer = voters != null ? voters : new HashMap<>();
+            buffer.merge(voterId, loginAt, (current, latest) -> latest.isAfter(current) ? latest : current);
+            return buffer;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${pollify.voters.last-login.flush-interval-ms:5000}")
+    public void flush() {
+        tenants.keySet().forEach(this::flushTenant);
+    }
+
+    @PreDestroy
+    void stop() {
+        flush();
+    }
+
+    private void flushTenant(String tenantId) {
+        Map<UUID, OffsetDateTime> buffered = tenants.remove(tenantId);
+        if (buffered == null || buffered.isEmpty()) {
+            return;
+        }
+
+        TenantContext.Snapshot caller = TenantContext.snapshot();
+        TenantContext.setTenantId(tenantId);
+        try {
+            transactionTemplate.executeWithoutResult(status -> voterBatchRepository.updateLastLogins(buffered));
+            log.debug("Flushed last_login of {} voter(s) in tenant: {}", buffered.size(), tenantId);
+        } catch (RuntimeException e) {
+            // Keep the timestamps for the next flush unless a newer login replaced them
+            buffered.forEach((voterId, loginAt) -> record(tenantId, voterId, loginAt));
+            log.error("last_login flush failed for tenant: {}", tenantId, e);
+        } finally {
+            caller.restore();
+        }
+    }
+}
@@ -1,29 +1,28 @@
 package com.pollify.admin.service;
 
 import com.pollify.admin.dto.voter.*;
-import com.pollify.admin.entity.master.EmailDomainIndex;
 import com.pollify.admin.entity.master.PollifyTenant;
 import com.pollify.admin.entity.tenant.RegistrationToken;
 import com.pollify.admin.entity.tenant.StudentList;
 import com.pollify.admin.entity.tenant.Voter;
 import com.pollify.admin.multitenancy.TenantContext;
-import com.pollify.admin.repository.master.EmailDomainIndexRepository;
-import com.pollify.admin.repository.master.PollifyTenantRepository;
 import com.pollify.admin.repository.tenant.RegistrationTokenRepository;
 import com.pollify.admin.repository.tenant.StudentListRepository;
 import com.pollify.admin.repository.tenant.VoterRepository;
 import com.pollify.admin.security.JwtTokenProvider;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.OffsetDateTime;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 /**
  * Epic 4: Voter Registration Service
- * Handles all three registration flows: domain school, code school (list), code school (token)
+ * Handles all three registration flows: domain school, code school (list), code school (token).
+ * The password is hashed before any transaction opens, then the checks and inserts run in one
+ * short transaction on the tenant schema, so a request queued for the hashing pool holds no connection.
  */
 @Service
 @Slf4j
@@ -32,250 +31,237 @@ public class VoterRegistrationService {
     private final VoterRepository voterRepository;
     private final StudentListRepository studentListRepository;
     private final RegistrationTokenRepository tokenRepository;
-    private final EmailDomainIndexRepository emailDomainIndexRepository;
-    private final PollifyTenantRepository tenantRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final TenantRegistry tenantRegistry;
+    private final PasswordHashingService passwordHashingService;
     private final JwtTokenProvider jwtTokenProvider;
+    private final TransactionTemplate transactionTemplate;
 
     public VoterRegistrationService(
             VoterRepository voterRepository,
             StudentListRepository studentListRepository,
             RegistrationTokenRepository tokenRepository,
-            EmailDomainIndexRepository emailDomainIndexRepository,
-            PollifyTenantRepository tenantRepository,
-            PasswordEncoder passwordEncoder,
-            JwtTokenProvider jwtTokenProvider) {
+            TenantRegistry tenantRegistry,
+            PasswordHashingService passwordHashingService,
+            JwtTokenProvider jwtTokenProvider,
+            TransactionTemplate transactionTemplate) {
         this.voterRepository = voterRepository;
         this.studentListRepository = studentListRepository;
         this.tokenRepository = tokenRepository;
-        this.emailDomainIndexRepository = emailDomainIndexRepository;
-        this.tenantRepository = tenantRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.tenantRegistry = tenantRegistry;
+        this.passwordHashingService = passwordHashingService;
         this.jwtTokenProvider = jwtTokenProvider;
+        this.transactionTemplate = transactionTemplate;
     }
 
     /**
      * Epic 4 - Story 4.1: Domain school voter registration
      */
-    @Transactional
     public VoterRegistrationResponse registerDomainSchoolVoter(DomainSchoolRegistrationRequest request) {
-        try {
-            // 1. Validate password match
-            validatePasswordMatch(request.getPassword(), request.getConfirmPassword());
+        // 1. Validate password match
+        validatePasswordMatch(request.getPassword(), request.getConfirmPassword());
 
-            // 2. Extract domain from email
-            String domain = extractDomain(request.getSchoolEmail());
+        // 2. Extract domain from email
+        String domain = extractDomain(request.getSchoolEmail());
 
-            // 3. Set master context to look up domain
-            TenantContext.setTenantId(null);
+        // 3. Find tenant by domain (tenant registry, no query)
+        PollifyTenant tenant = tenantRegistry.findByEmailDomain(domain)
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "Your school email domain is not registered on Pollify"));
 
-            // 4. Find tenant by domain
-            EmailDomainIndex domainIndex = emailDomainIndexRepository.findByEmailDomain(domain)
-                    .orElseThrow(() -> new IllegalArgumentException(
-                            "Your school email domain is not registered on Pollify"));
-
-            String tenantId = domainIndex.getTenantId();
-            PollifyTenant tenant = tenantRepository.findById(tenantId)
-                    .orElseThrow(() -> new IllegalArgumentException("School not found"));
+        String tenantId = tenant.getTenantId();
 
-            // 5. Switch to tenant schema
-            TenantContext.setTenantId(tenantId);
+        // 4. Hash the password outside the transaction
+        String passwordHash = passwordHashingService.encode(request.getPassword());
 
-            // 6. Check if email already registered
+        Voter voter = inTenantTransaction(tenantId, () -> {
+            // 5. Check if email already registered
             if (voterRepository.existsByEmail(request.getSchoolEmail())) {
                 throw new IllegalArgumentException("This email is already registered");
             }
 
-            // 7. Create voter account
-            Voter voter = new Voter();
-            voter.setEmail(request.getSchoolEmail());
-            voter.setPasswordHash(passwordEncoder.encode(request.getPassword()));
-            voter.setFirstName(request.getFirstName());
-            voter.setLastName(request.getLastName());
-            voter.setIsVerified(true);  // Domain email = auto-verified
-
-            voter = voterRepository.save(voter);
-
-            // 8. Generate login token
-            String loginToken = jwtTokenProvider.generateToken(
-                    voter.getId().toString(),
-                    voter.getEmail(),
-                    "VOTER",
-                    tenantId
-            );
-
-            log.info("Domain school voter registered: {} for tenant: {}", voter.getEmail(), tenantId);
-
-            return new VoterRegistrationResponse(
-                    voter.getId().toString(),
-                    voter.getEmail(),
-                    voter.getFirstName(),
-                    voter.getLastName(),
-                    tenantId,
-                    tenant.getUniversityName(),
-                    loginToken,
-                    "Registration successful! Welcome to " + tenant.getUniversityName()
-            );
-
-        } finally {
-            TenantContext.clear();
-        }
+            // 6. Create voter account
+            Voter created = new Voter();
+            created.setEmail(request.getSchoolEmail());
+            created.setPasswordHash(passwordHash);
+            created.setFirstName(request.getFirstName());
+            created.setLastName(request.getLastName());
+            created.setIsVerified(true);  // Domain email = auto-verified
+
+            return voterRepository.save(created);
+        });
+
+        // 7. Generate login token
+        String loginToken = jwtTokenProvider.generateToken(
+                voter.getId().toString(),
+                voter.getEmail(),
+                tenantId,
+                "VOTER"
+        );
+
+        log.info("Domain school voter registered: {} for tenant: {}", voter.getEmail(), tenantId);
+
+        return new VoterRegistrationResponse(
+                voter.getId().toString(),
+                voter.getEmail(),
+                voter.getFirstName(),
+                voter.getLastName(),
+                tenantId,
+                tenant.getUniversityName(),
+                loginToken,
+                "Registration successful! Welcome to " + tenant.getUniversityName()
+        );
     }
 
     /**
      * Epic 4 - Story 4.2: Code school voter registration (student list method)
      */
-    @Transactional
     public VoterRegistrationResponse registerCodeSchoolVoterWithList(CodeSchoolListRegistrationRequest request) {
-        try {
-            // 1. Validate password match
-            validatePasswordMatch(request.getPassword(), request.getConfirmPassword());
+        // 1. Validate password match
+        validatePasswordMatch(request.getPassword(), request.getConfirmPassword());
 
-            // 2. Set master context to look up school code
-            TenantContext.setTenantId(null);
+        // 2. Find tenant by school code (tenant registry, no query)
+        PollifyTenant tenant = tenantRegistry.findBySchoolCode(request.getSchoolCode())
+                .orElseThrow(() -> new IllegalArgumentException("Invalid school code"));
 
-            // 3. Find tenant by school code
-            PollifyTenant tenant = tenantRepository.findBySchoolCode(request.getSchoolCode())
-                    .orElseThrow(() -> new IllegalArgumentException("Invalid school code"));
+        String tenantId = tenant.getTenantId();
 
-            String tenantId = tenant.getTenantId();
+        // 3. Hash the password outside the transaction
+        String passwordHash = passwordHashingService.encode(request.getPassword());
 
-            // 4. Switch to tenant schema
-            TenantContext.setTenantId(tenantId);
-
-            // 5. Validate student ID exists in uploaded list
+        Voter voter = inTenantTransaction(tenantId, () -> {
+            // 4. Validate student ID exists in uploaded list
             StudentList studentRecord = studentListRepository.findByStudentId(request.getStudentId())
                     .orElseThrow(() -> new IllegalArgumentException(
                             "Your student ID was not found. Please contact your school admin."));
 
-            // 6. Check if student ID already used
+            // 5. Check if student ID already used
             if (Boolean.TRUE.equals(studentRecord.getIsRegistered())) {
                 throw new IllegalArgumentException("This student ID has already been used for registration");
             }
 
-            // 7. Check if email already registered
+            // 6. Check if email already registered
             if (voterRepository.existsByEmail(request.getPersonalEmail())) {
                 throw new IllegalArgumentException("This email is already registered");
             }
 
-            // 8. Create voter account
-            Voter voter = new Voter();
-            voter.setEmail(request.getPersonalEmail());
-            voter.setPasswordHash(passwordEncoder.encode(request.getPassword()));
-            voter.setFirstName(request.getFirstName());
-            voter.setLastName(request.getLastName());
-            voter.setStudentId(request.getStudentId());
-            voter.setIsVerified(true);
+            // 7. Create voter account
+            Voter created = new Voter();
+            created.setEmail(request.getPersonalEmail());
+            created.setPasswordHash(passwordHash);
+            created.setFirstName(request.getFirstName());
+            created.setLastName(request.getLastName());
+            created.setStudentId(request.getStudentId());
+            created.setIsVerified(true);
 
-            voter = voterRepository.save(voter);
+            created = voterRepository.save(created);
 
-            // 9. Mark student as registered
+            // 8. Mark student as registered
             studentRecord.setIsRegistered(true);
-            studentRecord.setRegisteredVoterId(voter.getId());
+            studentRecord.setRegisteredVoterId(created.getId());
             studentListRepository.save(studentRecord);
-
-            // 10. Generate login token
-            String loginToken = jwtTokenProvider.generateToken(
-                    voter.getId().toString(),
-                    voter.getEmail(),
-                    "VOTER",
-                    tenantId
-            );
-
-            log.info("Code school voter registered (list): {} for tenant: {}", voter.getEmail(), tenantId);
-
-            return new VoterRegistrationResponse(
-                    voter.getId().toString(),
-                    voter.getEmail(),
-                    voter.getFirstName(),
-                    voter.getLastName(),
-                    tenantId,
-                    tenant.getUniversityName(),
-                    loginToken,
-                    "Registration successful! Welcome to " + tenant.getUniversityName()
-            );
-
-        } finally {
-            TenantContext.clear();
-        }
+            return created;
+        });
+
+        // 9. Generate login token
+        String loginToken = jwtTokenProvider.generateToken(
+                voter.getId().toString(),
+                voter.getEmail(),
+                tenantId,
+                "VOTER"
+        );
+
+        log.info("Code school voter registered (list): {} for tenant: {}", voter.getEmail(), tenantId);
+
+        return new VoterRegistrationResponse(
+                voter.getId().toString(),
+                voter.getEmail(),
+                voter.getFirstName(),
+                voter.getLastName(),
+                tenantId,
+                tenant.getUniversityName(),
+                loginToken,
+                "Registration successful! Welcome to " + tenant.getUniversityName()
+        );
     }
 
     /**
      * Epic 4 - Story 4.3: Code school voter registration (token method)
      */
-    @Transactional
     public VoterRegistrationResponse registerCodeSchoolVoterWithToken(CodeSchoolTokenRegistrationRequest request) {
-        try {
-            // 1. Validate password match
-            validatePasswordMatch(request.getPassword(), request.getConfirmPassword());
-
-            // 2. Set master context to look up school code
-            TenantContext.setTenantId(null);
+        // 1. Validate password match
+        validatePasswordMatch(request.getPassword(), request.getConfirmPassword());
 
-            // 3. Find tenant by school code
-            PollifyTenant tenant = tenantRepository.findBySchoolCode(request.getSchoolCode())
-                    .orElseThrow(() -> new IllegalArgumentException("Invalid school code"));
+        // 2. Find tenant by school code (tenant registry, no query)
+        PollifyTenant tenant = tenantRegistry.findBySchoolCode(request.getSchoolCode())
+                .orElseThrow(() -> new IllegalArgumentException("Invalid school code"));
 
-            String tenantId = tenant.getTenantId();
+        String tenantId = tenant.getTenantId();
 
-            // 4. Switch to tenant schema
-            TenantContext.setTenantId(tenantId);
+        // 3. Hash the password outside the transaction
+        String passwordHash = passwordHashingService.encode(request.getPassword());
 
-            // 5. Validate registration token
+        Voter voter = inTenantTransaction(tenantId, () -> {
+            // 4. Validate registration token
             RegistrationToken token = tokenRepository.findByToken(request.getRegistrationToken())
                     .orElseThrow(() -> new IllegalArgumentException(
                             "This token is invalid or has already been used."));
 
-            // 6. Check if token already used
+            // 5. Check if token already used
             if (token.getTokenStatus() == RegistrationToken.TokenStatus.USED) {
                 throw new IllegalArgumentException("This token has already been used");
             }
 
-            // 7. Check if email already registered
+            // 6. Check if email already registered
             if (voterRepository.existsByEmail(request.getPersonalEmail())) {
                 throw new IllegalArgumentException("This email is already registered");
             }
 
-            // 8. Create voter account
-            Voter voter = new Voter();
-            voter.setEmail(request.getPersonalEmail());
-            voter.setPasswordHash(passwordEncoder.encode(request.getPassword()));
-            voter.setFirstName(request.getFirstName());
-            voter.setLastName(request.getLastName());
-            voter.setIsVerified(true);
+            // 7. Create voter account
+            Voter created = new Voter();
+            created.setEmail(request.getPersonalEmail());
+            created.setPasswordHash(passwordHash);
+            created.setFirstName(request.getFirstName());
+            created.setLastName(request.getLastName());
+            created.setIsVerified(true);
 
-            voter = voterRepository.save(voter);
+            created = voterRepository.save(created);
 
-            // 9. Mark token as USED
+            // 8. Mark token as USED
             token.setTokenStatus(RegistrationToken.TokenStatus.USED);
-            token.setUsedByVoterId(voter.getId());
+            token.setUsedByVoterId(created.getId());
             token.setUsedAt(OffsetDateTime.now());
             tokenRepository.save(token);
+            return created;
+        });
+
+        // 9. Generate login token
+        String loginToken = jwtTokenProvider.generateToken(
+                voter.getId().toString(),
+                voter.getEmail(),
+                tenantId,
+                "VOTER"
+        );
+
+        log.info("Code school voter registered (token): {} for tenant: {}", voter.getEmail(), tenantId);
+
+        return new VoterRegistrationResponse(
+                voter.getId().toString(),
+                voter.getEmail(),
+                voter.getFirstName(),
+                voter.getLastName(),
+                tenantId,
+                tenant.getUniversityName(),
+                loginToken,
+                "Registration successful! Welcome to " + tenant.getUniversityName()
+        );
+    }
 
-            // 10. Generate login token
-            String loginToken = jwtTokenProvider.generateToken(
-                    voter.getId().toString(),
-                    voter.getEmail(),
-                    "VOTER",
-                    tenantId
-            );
-
-            log.info("Code school voter registered (token): {} for tenant: {}", voter.getEmail(), tenantId);
-
-            return new VoterRegistrationResponse(
-                    voter.getId().toString(),
-                    voter.getEmail(),
-                    voter.getFirstName(),
-                    voter.getLastName(),
-                    tenantId,
-                    tenant.getUniversityName(),
-                    loginToken,
-                    "Registration successful! Welcome to " + tenant.getUniversityName()
-            );
-
-        } finally {
-            TenantContext.clear();
-        }
+    /**
+     * Helper: Run the checks and writes in one transaction on the tenant schema.
+     * The tenant is set before the transaction opens, so its connection is checked out for that tenant.
+     */
+    private <T> T inTenantTransaction(String tenantId, Supplier<T> work) {
+        return TenantContext.callWithTenant(tenantId, () -> transactionTemplate.execute(status -> work.get()));
     }
 
     /**
@@ -0,0 +1,10 @@
+package com.pollify.admin.service;
+
+import java.util.UUID;
+
+/**
+ * Published when votes for an election are written. Listeners bound to the
+ * transaction only see it once the votes are committed.
+ */
+public record VotesCommittedEvent(String tenantId, UUID electionId, int voteCount) {
+}
@@ -1,21 +1,28 @@
 package com.pollify.admin.service;
 
+import com.pollify.admin.dto.voting.BallotResponse;
+import com.pollify.admin.dto.voting.CastBallotRequest;
 import com.pollify.admin.dto.voting.CastVoteRequest;
 import com.pollify.admin.dto.voting.VoteResponse;
-import com.pollify.admin.entity.tenant.Candidate;
 import com.pollify.admin.entity.tenant.Election;
 import com.pollify.admin.entity.tenant.Vote;
 import com.pollify.admin.multitenancy.TenantContext;
 import com.pollify.admin.repository.tenant.CandidateRepository;
-import com.pollify.admin.repository.tenant.ElectionRepository;
+import com.pollify.admin.repository.tenant.VoteBatchRepository;
 import com.pollify.admin.repository.tenant.VoteRepository;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Epic 6: Voting Service
@@ -26,19 +33,28 @@ import java.util.UUID;
 public class VotingService {
 
     private final VoteRepository voteRepository;
-    private final ElectionRepository electionRepository;
+    private final ElectionSnapshotCache electionSnapshotCache;
     private final CandidateRepository candidateRepository;
-    private final WebSocketService webSocketService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final VoteCounterRegistry voteCounterRegistry;
+    private final VoterBallotIndex voterBallotIndex;
+    private final VoteBatchRepository voteBatchRepository;
 
     public VotingService(
             VoteRepository voteRepository,
-            ElectionRepository electionRepository,
+            ElectionSnapshotCache electionSnapshotCache,
             CandidateRepository candidateRepository,
-            WebSocketService webSocketService) {
+            ApplicationEventPublisher eventPublisher,
+            VoteCounterRegistry voteCounterRegistry,
+            VoterBallotIndex voterBallotIndex,
+            VoteBatchRepository voteBatchRepository) {
         this.voteRepository = voteRepository;
-        this.electionRepository = electionRepository;
+        this.electionSnapshotCache = electionSnapshotCache;
         this.candidateRepository = candidateRepository;
-        this.webSocketService = webSocketService;
+        this.eventPublisher = eventPublisher;
+        this.voteCounterRegistry = voteCounterRegistry;
+        this.voterBallotIndex = voterBallotIndex;
+        this.voteBatchRepository = voteBatchRepository;
     }
 
     /**
@@ -51,55 +67,47 @@ public class VotingService {
             throw new IllegalStateException("Tenant context not set");
         }
 
-        // 1. Verify election exists and is ACTIVE
-        Election election = electionRepository.findById(request.getElectionId())
-                .orElseThrow(() -> new IllegalArgumentException("Election not found"));
+        // 1. Verify election is ACTIVE and inside its time window (cached snapshot - no reads before the insert)
+        ElectionSnapshot election = electionSnapshotCache.get(tenantId, request.getElectionId());
+        election.requireVotingOpen(OffsetDateTime.now());
 
-        if (election.getElectionStatus() != Election.ElectionStatus.ACTIVE) {
-            throw new IllegalArgumentException("This election is not active");
-        }
-
-        // 2. Verify election time window
-        OffsetDateTime now = OffsetDateTime.now();
-        if (now.isBefore(election.getStartTime())) {
-            throw new IllegalArgumentException("Voting has not started yet");
-        }
-        if (now.isAfter(election.getEndTime())) {
-            throw new IllegalArgumentException("Voting has ended");
-        }
-
-        // 3. Check if voter already voted (double-check before DB constraint)
-        if (voteRepository.existsByVoterIdAndElectionId(voterId, request.getElectionId())) {
+        // 2. Check if voter already voted (in-memory index, DB constraint is the final guard)
+        if (voterBallotIndex.hasVoted(tenantId, request.getElectionId(), voterId)) {
             throw new IllegalArgumentException("You have already voted in this election");
         }
 
-        // 4. Verify candidate exists and belongs to this election
-        Candidate candidate = candidateRepository.findById(request.getCandidateId())
-                .orElseThrow(() -> new IllegalArgumentException("Candidate not found"));
-
-        if (!candidate.getElectionId().equals(request.getElectionId())) {
+        // 3. Verify candidate belongs to this election
+        if (!election.hasCandidate(request.getCandidateId())) {
             throw new IllegalArgumentException("Candidate does not belong to this election");
         }
 
-        // 5. Create vote record
+        // 4. Create vote record
         Vote vote = new Vote();
+        vote.setId(UUID.randomUUID());
         vote.setVoterId(voterId);
         vote.setElectionId(request.getElectionId());
         vote.setCandidateId(request.getCandidateId());
+        vote.setPosition(election.positionOf(request.getCandidateId()));
+        vote.setVotedAt(OffsetDateTime.now());
 
         try {
-            // 6. Save vote (UNIQUE constraint prevents duplicates at DB level)
-            vote = voteRepository.save(vote);
-
-            // 7. Increment candidate vote count (real-time update)
-            candidate.setVoteCount(candidate.getVoteCount() + 1);
-            candidateRepository.save(candidate);
+            // 5. Save the ballot row and vote (ballot primary key prevents duplicates at DB level)
+            // Runs before the candidate row is locked, so a duplicate fails first
+            voteBatchRepository.insertBallot(List.of(vote));
+
+            // 6. Increment candidate vote count - in memory for sharded counters, else atomically in the database
+            if (voteCounterRegistry.isSharded()) {
+                voteCounterRegistry.incrementAfterCommit(tenantId, request.getElectionId(), request.getCandidateId());
+            } else {
+                candidateRepository.incrementVoteCount(request.getCandidateId(), 1);
+            }
+            voterBallotIndex.markVotedAfterCommit(tenantId, request.getElectionId(), voterId);
 
             log.info("Vote cast successfully - Voter: {}, Election: {}, Candidate: {} in tenant: {}", 
                     voterId, request.getElectionId(), request.getCandidateId(), tenantId);
 
-            // Epic 7: Broadcast live results via WebSocket
-            webSocketService.broadcastElectionResults(tenantId, request.getElectionId());
+            // Epic 7: Broadcast live results via WebSocket once the vote commits
+            eventPublisher.publishEvent(new VotesCommittedEvent(tenantId, request.getElectionId(), 1));
 
             return new VoteResponse(
                     true,
@@ -108,17 +116,98 @@ public class VotingService {
             );
 
         } catch (DataIntegrityViolationException e) {
-            // Caught duplicate vote attempt at DB level
+            // Caught duplicate vote attempt at DB level - the vote was recorded elsewhere (e.g. another node)
+            voterBallotIndex.markVoted(tenantId, request.getElectionId(), voterId);
             log.warn("Duplicate vote attempt blocked - Voter: {}, Election: {}", voterId, request.getElectionId());
             throw new IllegalArgumentException("You have already voted in this election");
         }
     }
 
     /**
-     * Check if voter has voted in an election
+     * Epic 6: Cast a full ballot - one selection per position.
+     * All selections are validated up front, inserted in one JDBC batch and counted with one
+     * statement, followed by a single results broadcast.
+     */
+    @Transactional
+    public BallotResponse castBallot(CastBallotRequest request, UUID voterId) {
+        String tenantId = TenantContext.getTenantId();
+        if (tenantId == null) {
+            throw new IllegalStateException("Tenant context not set");
+        }
+
+        // 1. Verify election is ACTIVE and inside its time window
+        ElectionSnapshot election = electionSnapshotCache.get(tenantId, request.getElectionId());
+        OffsetDateTime now = OffsetDateTime.now();
+        election.requireVotingOpen(now);
+
+        // 2. Check if voter already cast a ballot
+        if (voterBallotIndex.hasVoted(tenantId, request.getElectionId(), voterId)) {
+            throw new IllegalArgumentException("You have already voted in this election");
+        }
+
+        // 3. Validate selections - every candidate in this election, one per position
+        Map<String, UUID> selections = election.ballotSelections(request.getCandidateIds());
+
+        List<Vote> votes = new ArrayList<>(selections.size());
+        selections.forEach((position, candidateId) -> {
+            Vote vote = new Vote();
+            vote.setId(UUID.randomUUID());
+            vote.setVoterId(voterId);
+            vote.setElectionId(request.getElectionId());
+            vote.setCandidateId(candidateId);
+            vote.setPosition(position);
+            vote.setVotedAt(now);
+            votes.add(vote);
+        });
+
+        try {
+            // 4. Insert the ballot row and all selections in one batch (ballot primary key rejects a second ballot)
+            voteBatchRepository.insertBallot(votes);
+
+            // 5. Increment candidate vote counts - one statement for the whole ballot
+            if (voteCounterRegistry.isSharded()) {
+                selections.values().forEach(candidateId ->
+                        voteCounterRegistry.incrementAfterCommit(tenantId, request.getElectionId(), candidateId));
+            } else {
+                voteBatchRepository.incrementVoteCounts(selections.values().stream()
+                        .collect(Collectors.toMap(Function.identity(), candidateId -> 1L)));
+            }
+            voterBallotIndex.markVotedAfterCommit(tenantId, request.getElectionId(), voterId);
+
+        } catch (DataIntegrityViolationException e) {
+            log.warn("Duplicate ballot attempt blocked - Voter: {}, Election: {}", voterId, request.getElectionId());
+            voterBallotIndex.markVoted(tenantId, request.getElectionId(), voterId);
+            throw new IllegalArgumentException("You have already voted in this election");
+        }
+
+        log.info("Ballot cast successfully - Voter: {}, Election: {}, {} selection(s) in tenant: {}",
+                voterId, request.getElectionId(), votes.size(), tenantId);
+
+        // Epic 7: One results broadcast for the whole ballot, once it commits
+        eventPublisher.publishEvent(new VotesCommittedEvent(tenantId, request.getElectionId(), votes.size()));
+
+        return new BallotResponse(
+                true,
+                "Ballot cast successfully!",
+                votes.stream().map(vote -> vote.getId().toString()).toList()
+        );
+    }
+
+    /**
+     * Check if voter has voted in an election, including votes still waiting in this node's write-behind journal.
+     * The in-memory index answers "yes"; a "no" is confirmed against the vote table, which also holds
+     * votes cast on other nodes. Closed elections are no longer indexed and are answered from the vote table.
      */
     public boolean hasVoted(UUID voterId, UUID electionId) {
-        return voteRepository.existsByVoterIdAndElectionId(voterId, electionId);
+        String tenantId = TenantContext.getTenantId();
+        if (tenantId == null) {
+            throw new IllegalStateException("Tenant context not set");
+        }
+        ElectionSnapshot election = electionSnapshotCache.get(tenantId, electionId);
+        if (election.status() != Election.ElectionStatus.ACTIVE) {
+            return voteRepository.existsByVoterIdAndElectionId(voterId, electionId);
+        }
+        return voterBallotIndex.hasVoted(tenantId, electionId, voterId);
     }
 
     /**
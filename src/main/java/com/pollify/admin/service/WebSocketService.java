@@ -1,12 +1,26 @@
 package com.pollify.admin.service;
 
+import com.pollify.admin.dto.election.CandidateResponse;
+import com.pollify.admin.dto.results.CandidateVoteCount;
 import com.pollify.admin.dto.results.LiveResultsResponse;
+import com.pollify.admin.dto.results.ResultsDelta;
+import com.pollify.admin.dto.results.ResultsSnapshot;
+import com.pollify.admin.entity.tenant.Election;
 import com.pollify.admin.multitenancy.TenantContext;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Epic 7: WebSocket Service for broadcasting live results
@@ -15,48 +29,177 @@ import java.util.UUID;
 @Slf4j
 public class WebSocketService {
 
+    private static final String PROTOCOL_DELTA = "delta";
+
     private final SimpMessagingTemplate messagingTemplate;
     private final ResultsService resultsService;
+    private final ResultsSseService resultsSseService;
+
+    @Value("${pollify.results.protocol:full}")
+    private String protocol;
+
+    // tenant:election -> last state sent on the delta protocol; only active elections are kept
+    private final Map<String, ResultsStream> streams = new ConcurrentHashMap<>();
 
     public WebSocketService(
             SimpMessagingTemplate messagingTemplate,
-            ResultsService resultsService) {
+            ResultsService resultsService,
+            ResultsSseService resultsSseService) {
         this.messagingTemplate = messagingTemplate;
         this.resultsService = resultsService;
+        this.resultsSseService = resultsSseService;
+    }
+
+    public boolean isDeltaProtocol() {
+        return PROTOCOL_DELTA.equalsIgnoreCase(protocol);
     }
 
     /**
      * Epic 7 - Story 7.1: Broadcast election results to all connected clients
      * Topic format: /topic/{tenantId}/election/{electionId}/results
+     * Full protocol sends the whole LiveResultsResponse; delta protocol sends a ResultsDelta.
+     * SSE subscribers get the same payload.
      */
     public void broadcastElectionResults(String tenantId, UUID electionId) {
         try {
-            // Set tenant context to fetch results
-            TenantContext.setTenantId(tenantId);
-
-            // Get current results
-            LiveResultsResponse results = resultsService.getLiveResults(electionId);
+            // Get current results in the election's tenant; the caller's context is restored after
+            LiveResultsResponse results = liveResults(tenantId, electionId);
 
             // Broadcast to tenant-scoped topic
             String destination = String.format("/topic/%s/election/%s/results", tenantId, electionId);
-            messagingTemplate.convertAndSend(destination, results);
+            if (isDeltaProtocol()) {
+                // The closing broadcast is the stream's last, so it is taken out of the map
+                ResultsStream stream = isClosed(results)
+                        ? streams.remove(streamKey(tenantId, electionId))
+                        : streams.computeIfAbsent(streamKey(tenantId, electionId), key -> new ResultsStream());
+                ResultsDelta delta = (stream != null ? stream : new ResultsStream()).advance(results);
+                if (delta != null) {
+                    messagingTemplate.convertAndSend(destination, delta);
+                    resultsSseService.publish(tenantId, electionId, delta);
+                }
+            } else {
+                messagingTemplate.convertAndSend(destination, results);
+                resultsSseService.publish(tenantId, electionId, results);
+            }
 
             log.debug("Broadcasted results for election: {} in tenant: {}", electionId, tenantId);
 
         } catch (Exception e) {
             log.error("Error broadcasting election results: {}", e.getMessage(), e);
-        } finally {
-            TenantContext.clear();
         }
     }
 
+    /**
+     * Epic 7: Full results for a new subscriber, tagged with the sequence deltas continue from.
+     * Served from the last broadcast state when there is one, so resubscribing is free.
+     * A stream is only created once the election is found, and never for a closed election.
+     */
+    public ResultsSnapshot resultsSnapshot(String tenantId, UUID electionId) {
+        if (!isDeltaProtocol()) {
+            return new ResultsSnapshot(0L, liveResults(tenantId, electionId));
+        }
+
+        ResultsStream stream = streams.get(streamKey(tenantId, electionId));
+        ResultsSnapshot snapshot = stream != null ? stream.snapshot() : null;
+        if (snapshot != null) {
+            return snapshot;
+        }
+
+        // Throws if the election does not exist
+        LiveResultsResponse results = liveResults(tenantId, electionId);
+        if (isClosed(results)) {
+            return new ResultsSnapshot(0L, results);
+        }
+        return streams.computeIfAbsent(streamKey(tenantId, electionId), key -> new ResultsStream()).baseline(results);
+    }
+
+    /**
+     * Drops the delta stream of a closed election
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onElectionClosed(ElectionClosedEvent event) {
+        streams.remove(streamKey(event.tenantId(), event.electionId()));
+    }
+
+
     /**
      * Broadcast election status change (DRAFT → ACTIVE → CLOSED)
      */
     public void broadcastElectionStatusChange(String tenantId, UUID electionId, String newStatus) {
         String destination = String.format("/topic/%s/election/%s/status", tenantId, electionId);
         messagingTemplate.convertAndSend(destination, newStatus);
-        
+
         log.info("Broadcasted status change for election: {} to status: {}", electionId, newStatus);
     }
+
+    private LiveResultsResponse liveResults(String tenantId, UUID electionId) {
+        return TenantContext.callWithTenant(tenantId, () -> resultsService.getLiveResults(electionId));
+    }
+
+    private static String streamKey(String tenantId, UUID electionId) {
+        return tenantId + ":" + electionId;
+    }
+
+    private static boolean isClosed(LiveResultsResponse results) {
+        return Election.ElectionStatus.CLOSED.name().equals(results.getStatus());
+    }
+
+    /**
+     * Sequence and last sent results of one election's delta stream
+     */
+    private static final class ResultsStream {
+
+        private long sequence;
+        private LiveResultsResponse last;
+        private final Map<String, Long> counts = new HashMap<>();
+
+        private synchronized ResultsSnapshot snapshot() {
+            return last != null ? new ResultsSnapshot(sequence, last) : null;
+        }
+
+        /**
+         * Adopts results as sequence 0 unless a broadcast got there first
+         */
+        private synchronized ResultsSnapshot baseline(LiveResultsResponse results) {
+            if (last == null) {
+                remember(results);
+            }
+            return new ResultsSnapshot(sequence, last);
+        }
+
+        /**
+         * @return the delta against the previous state, or null if nothing changed
+         */
+        private synchronized ResultsDelta advance(LiveResultsResponse results) {
+            List<CandidateVoteCount> changes = new ArrayList<>();
+            for (CandidateResponse candidate : results.getCandidates()) {
+                if (!Objects.equals(counts.get(candidate.getId()), candidate.getVoteCount())) {
+                    changes.add(new CandidateVoteCount(candidate.getId(), candidate.getVoteCount()));
+                }
+            }
+            boolean unchanged = last != null
+                    && changes.isEmpty()
+                    && Objects.equals(last.getTotalVotes(), results.getTotalVotes())
+                    && Objects.equals(last.getStatus(), results.getStatus());
+            if (unchanged) {
+                return null;
+            }
+
+            sequence++;
+            remember(results);
+            return new ResultsDelta(
+                    results.getElectionId(),
+                    sequence,
+                    results.getStatus(),
+                    results.getTotalVotes(),
+                    changes,
+                    results.getUpdatedAt());
+        }
+
+        private void remember(LiveResultsResponse results) {
+            last = results;
+            counts.clear();
+            results.getCandidates().forEach(candidate -> counts.put(candidate.getId(), candidate.getVoteCount()));
+        }
+    }
 }
@@ -0,0 +1,19 @@
+-- V2: One vote per position on multi-position ballots
+-- A ballot carries one selection per position (president, secretary, ...),
+-- so uniqueness moves from (voter, election) to (voter, election, position).
+
+ALTER TABLE vote ADD COLUMN position VARCHAR(200);
+
+UPDATE vote v
+SET position = c.position
+FROM candidate c
+WHERE c.id = v.candidate_id;
+
+ALTER TABLE vote ALTER COLUMN position SET NOT NULL;
+
+ALTER TABLE vote DROP CONSTRAINT unique_voter_election;
+
+ALTER TABLE vote
+    ADD CONSTRAINT unique_voter_election_position UNIQUE (voter_id, election_id, position);
+
+COMMENT ON COLUMN vote.position IS 'Epic 6: Candidate position at the time of voting - one vote per voter per position';
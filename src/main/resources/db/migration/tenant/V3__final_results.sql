@@ -0,0 +1,27 @@
+-- V3: Frozen final results
+-- Written once when an election closes; the final results endpoints read only these tables.
+
+CREATE TABLE election_result_snapshot (
+    election_id UUID PRIMARY KEY REFERENCES election(id),
+    title VARCHAR(255) NOT NULL,
+    total_votes BIGINT NOT NULL,
+    finalized_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE election_result (
+    election_id UUID NOT NULL REFERENCES election_result_snapshot(election_id),
+    candidate_id UUID NOT NULL REFERENCES candidate(id),
+    position VARCHAR(200) NOT NULL,
+    full_name VARCHAR(200) NOT NULL,
+    bio TEXT,
+    image_url VARCHAR(500),
+    vote_count BIGINT NOT NULL,
+    position_votes BIGINT NOT NULL,
+    vote_percentage NUMERIC(5, 2) NOT NULL,
+    position_rank INTEGER NOT NULL,
+    winner BOOLEAN NOT NULL,
+    PRIMARY KEY (election_id, candidate_id)
+);
+
+COMMENT ON TABLE election_result_snapshot IS 'Epic 7 - Story 7.2: Immutable final results header, materialized when the election closes';
+COMMENT ON TABLE election_result IS 'Epic 7 - Story 7.2: Per-candidate final totals, percentage of position votes, rank and winner flag';
@@ -0,0 +1,25 @@
+-- V4: One ballot per voter per election
+-- V2 moved vote uniqueness to (voter, election, position), which no longer stops a voter
+-- from casting a second ballot. Every ballot now records a row here in the same transaction
+-- as its votes; the primary key enforces one ballot per election and the foreign key keeps
+-- votes from bypassing it.
+
+CREATE TABLE ballot (
+    voter_id UUID NOT NULL REFERENCES voter(id),
+    election_id UUID NOT NULL REFERENCES election(id),
+    cast_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    PRIMARY KEY (voter_id, election_id)
+);
+
+INSERT INTO ballot (voter_id, election_id, cast_at)
+SELECT voter_id, election_id, COALESCE(MIN(voted_at), CURRENT_TIMESTAMP)
+FROM vote
+GROUP BY voter_id, election_id;
+
+ALTER TABLE vote
+    ADD CONSTRAINT fk_vote_ballot FOREIGN KEY (voter_id, election_id) REFERENCES ballot(voter_id, election_id);
+
+CREATE INDEX idx_ballot_election_id ON ballot(election_id);
+
+COMMENT ON TABLE ballot IS 'Epic 6 - Story 6.3: One row per cast ballot - the primary key prevents voting twice in an election';
+COMMENT ON COLUMN ballot.cast_at IS 'Epic 6: Shared voted_at of the ballot''s votes, so a ballot replayed from the write-behind journal matches its own row';
@@ -0,0 +1,7 @@
+-- V5: Generation run of each registration token
+-- Every call to generate tokens stamps its rows with one batch ID, so exactly that run can be
+-- downloaded again. Tokens generated before this migration have no batch.
+
+ALTER TABLE registration_token ADD COLUMN generation_batch UUID;
+
+CREATE INDEX idx_registration_token_generation_batch ON registration_token(generation_batch);
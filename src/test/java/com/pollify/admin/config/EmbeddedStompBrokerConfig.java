@@ -0,0 +1,39 @@
+package com.pollify.admin.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.activemq.artemis.core.config.impl.ConfigurationImpl;
+import org.apache.activemq.artemis.core.server.embedded.EmbeddedActiveMQ;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * In-process ActiveMQ Artemis STOMP broker for the "embedded-broker" test profile.
+ * Lets the broker relay mode be integration-tested on one machine without any
+ * external services. Lives in the test source set so Artemis never ships in the jar.
+ */
+@Configuration
+@Profile("embedded-broker")
+@Slf4j
+public class EmbeddedStompBrokerConfig {
+
+    @Value("${pollify.websocket.broker.embedded.port:61613}")
+    private int stompPort;
+
+    /**
+     * Started on creation so it is listening before the relay connects
+     */
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public EmbeddedActiveMQ embeddedStompBroker() throws Exception {
+        ConfigurationImpl configuration = new ConfigurationImpl();
+        configuration.setPersistenceEnabled(false);
+        configuration.setSecurityEnabled(false);
+        configuration.addAcceptorConfiguration("stomp", "tcp://localhost:" + stompPort + "?protocols=STOMP");
+
+        EmbeddedActiveMQ broker = new EmbeddedActiveMQ();
+        broker.setConfiguration(configuration);
+        log.info("Embedded STOMP broker configured on port {}", stompPort);
+        return broker;
+    }
+}
@@ -0,0 +1,89 @@
+package com.pollify.admin.controller;
+
+import com.pollify.admin.security.JwtTokenProvider;
+import com.pollify.admin.service.TenantSchemaService;
+import com.pollify.admin.support.PostgresIntegrationTest;
+import com.pollify.admin.support.TenantFixtures;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Voter tokens are valid JWTs, so the admin areas must check the role and not just authentication
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class AdminAccessIntegrationTest extends PostgresIntegrationTest {
+
+    @Value("${local.server.port}")
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TenantSchemaService tenantSchemaService;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    private String schema;
+    private UUID electionId;
+
+    @BeforeEach
+    void setUp() {
+        TenantFixtures fixtures = new TenantFixtures(jdbcTemplate, tenantSchemaService);
+        schema = fixtures.createSchema();
+        electionId = fixtures.activeElection(schema);
+        fixtures.candidate(schema, electionId, "President");
+    }
+
+    @Test
+    void voterTokenIsForbiddenOnAdminEndpoints() throws Exception {
+        String token = token("VOTER");
+
+        assertThat(send("POST", "/api/admin/elections/" + electionId + "/reconcile-votes", token)).isEqualTo(403);
+        assertThat(send("GET", "/api/admin/elections/" + electionId + "/voter-index", token)).isEqualTo(403);
+        assertThat(send("GET", "/api/admin/elections", token)).isEqualTo(403);
+        assertThat(send("GET", "/api/super-admin/metrics/tenant-pools", token)).isEqualTo(403);
+        assertThat(send("POST", "/api/super-admin/tenant-registry/refresh", token)).isEqualTo(403);
+    }
+
+    @Test
+    void tenantAdminTokenIsForbiddenOnSuperAdminEndpoints() throws Exception {
+        String token = token("TENANT_ADMIN");
+
+        assertThat(send("GET", "/api/super-admin/metrics/tenant-pools", token)).isEqualTo(403);
+        assertThat(send("POST", "/api/super-admin/tenant-registry/refresh", token)).isEqualTo(403);
+        assertThat(send("GET", "/api/admin/elections/" + electionId + "/voter-index", token)).isEqualTo(200);
+    }
+
+    @Test
+    void superAdminTokenReachesSuperAdminEndpoints() throws Exception {
+        assertThat(send("GET", "/api/super-admin/metrics/tenant-pools", token("SUPER_ADMIN"))).isEqualTo(200);
+    }
+
+    private String token(String role) {
+        return jwtTokenProvider.generateToken(UUID.randomUUID().toString(), "user@example.com", schema, role);
+    }
+
+    private int send(String method, String path, String token) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Authorization", "Bearer " + token)
+                .method(method, HttpRequest.BodyPublishers.noBody())
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
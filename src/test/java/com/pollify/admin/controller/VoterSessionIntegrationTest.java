@@ -0,0 +1,104 @@
+package com.pollify.admin.controller;
+
+import com.pollify.admin.service.TenantSchemaService;
+import com.pollify.admin.support.PostgresIntegrationTest;
+import com.pollify.admin.support.TenantFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A token from voter login must work on the voter endpoints, which identify the voter by ID
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class VoterSessionIntegrationTest extends PostgresIntegrationTest {
+
+    private static final String PASSWORD = "correct-horse-battery";
+
+    @Value("${local.server.port}")
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TenantSchemaService tenantSchemaService;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JsonMapper jsonMapper;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @Test
+    void loggedInVoterCanCheckAndCastVote() throws Exception {
+        TenantFixtures fixtures = new TenantFixtures(jdbcTemplate, tenantSchemaService);
+        String schema = fixtures.createSchema();
+        String schoolCode = schema.substring(2, 10).toUpperCase();
+        fixtures.activeCodeSchool(schema, schoolCode);
+        UUID electionId = fixtures.activeElection(schema);
+        UUID candidateId = fixtures.candidate(schema, electionId, "President");
+        String email = "voter@example.com";
+        UUID voterId = fixtures.voter(schema, email, passwordEncoder.encode(PASSWORD));
+
+        HttpResponse<String> login = post("/api/auth/voter/login", null,
+                Map.of("email", email, "password", PASSWORD, "schoolCode", schoolCode));
+        assertThat(login.statusCode()).isEqualTo(200);
+        JsonNode session = jsonMapper.readTree(login.body());
+        assertThat(session.get("userId").asString()).isEqualTo(voterId.toString());
+        assertThat(session.get("tenantId").asString()).isEqualTo(schema);
+        String token = session.get("token").asString();
+
+        HttpResponse<String> before = get("/api/voter/elections/" + electionId + "/has-voted", token);
+        assertThat(before.statusCode()).isEqualTo(200);
+        assertThat(before.body()).isEqualTo("false");
+
+        HttpResponse<String> vote = post("/api/voter/vote", token,
+                Map.of("electionId", electionId.toString(), "candidateId", candidateId.toString()));
+        assertThat(vote.statusCode()).isEqualTo(200);
+
+        HttpResponse<String> after = get("/api/voter/elections/" + electionId + "/has-voted", token);
+        assertThat(after.statusCode()).isEqualTo(200);
+        assertThat(after.body()).isEqualTo("true");
+        assertThat(fixtures.queryForLong(
+                "SELECT COUNT(*) FROM \"" + schema + "\".vote WHERE voter_id = ?", voterId)).isEqualTo(1);
+    }
+
+    private HttpResponse<String> post(String path, String token, Map<String, String> body) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(jsonMapper.writeValueAsString(body)));
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        return httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> get(String path, String token) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri(path))
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+}
@@ -0,0 +1,61 @@
+package com.pollify.admin.service;
+
+import com.pollify.admin.dto.LoginRequest;
+import com.pollify.admin.dto.LoginResponse;
+import com.pollify.admin.dto.tenant.TenantPoolStats;
+import com.pollify.admin.multitenancy.TenantConnectionLimiter;
+import com.pollify.admin.multitenancy.TenantContext;
+import com.pollify.admin.support.PostgresIntegrationTest;
+import com.pollify.admin.support.TenantFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Admin logins read master tables only; a request that TenantResolutionFilter resolved to a
+ * tenant must not take that tenant's connection share for them.
+ */
+@SpringBootTest(properties = "pollify.elections.auto-close.enabled=false")
+class AdminLoginTenantContextIntegrationTest extends PostgresIntegrationTest {
+
+    private static final String PASSWORD = "correct-horse-battery";
+
+    @Autowired
+    private AuthenticationService authenticationService;
+
+    @Autowired
+    private TenantConnectionLimiter connectionLimiter;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TenantSchemaService tenantSchemaService;
+
+    @Test
+    void tenantAdminLoginUsesNoTenantConnection() {
+        TenantFixtures fixtures = new TenantFixtures(jdbcTemplate, tenantSchemaService);
+        String schema = fixtures.createSchema();
+        fixtures.activeCodeSchool(schema, schema.substring(2, 10).toUpperCase());
+        String adminEmail = "admin@" + schema + ".example.edu";
+        jdbcTemplate.update("UPDATE master.pollify_tenant SET admin_password_hash = ? WHERE tenant_id = ?",
+                passwordEncoder.encode(PASSWORD), schema);
+
+        LoginResponse response = TenantContext.callWithTenant(schema, () ->
+                authenticationService.login(new LoginRequest(adminEmail, PASSWORD)));
+
+        assertThat(response.getTenantId()).isEqualTo(schema);
+        assertThat(TenantContext.getTenantId()).isNull();
+        assertThat(connectionLimiter.stats())
+                .filteredOn(stats -> stats.getTenantId().equals(schema))
+                .extracting(TenantPoolStats::getAcquired)
+                .allMatch(acquired -> acquired == 0);
+    }
+}
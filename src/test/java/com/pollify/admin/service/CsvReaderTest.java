@@ -0,0 +1,111 @@
+package com.pollify.admin.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Quoting, line ends and byte order marks as written by spreadsheet exports
+ */
+class CsvReaderTest {
+
+    @Test
+    void readsPlainRecords() throws IOException {
+        assertThat(readAll("student_id,full_name\nS1,Ama Mensah\n")).containsExactly(
+                List.of("student_id", "full_name"),
+                List.of("S1", "Ama Mensah"));
+    }
+
+    @Test
+    void lastRecordWithoutLineEndIsRead() throws IOException {
+        assertThat(readAll("S1,Ama\nS2,Kofi")).containsExactly(
+                List.of("S1", "Ama"),
+                List.of("S2", "Kofi"));
+    }
+
+    @Test
+    void emptyFieldsAreKept() throws IOException {
+        assertThat(readAll(",x,\n")).containsExactly(List.of("", "x", ""));
+    }
+
+    @Test
+    void quotedFieldsMayContainCommasEscapedQuotesAndLineBreaks() throws IOException {
+        CsvReader reader = reader("S1,\"Mensah, Ama \"\"Ami\"\"\"\nS2,\"line one\nline two\"\nS3,Kofi\n");
+
+        assertThat(reader.next()).containsExactly("S1", "Mensah, Ama \"Ami\"");
+        assertThat(reader.recordLine()).isEqualTo(1);
+        assertThat(reader.next()).containsExactly("S2", "line one\nline two");
+        assertThat(reader.recordLine()).isEqualTo(2);
+        assertThat(reader.next()).containsExactly("S3", "Kofi");
+        assertThat(reader.recordLine()).isEqualTo(4);
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    void quoteInsideUnquotedFieldIsLiteral() throws IOException {
+        assertThat(readAll("S1,Ama \"Ami\" Mensah\n")).containsExactly(List.of("S1", "Ama \"Ami\" Mensah"));
+    }
+
+    @Test
+    void crlfLineEndsAreStripped() throws IOException {
+        CsvReader reader = reader("student_id,full_name\r\nS1,\"Ama\r\nMensah\"\r\nS2,Kofi\r\n");
+
+        assertThat(reader.next()).containsExactly("student_id", "full_name");
+        assertThat(reader.next()).containsExactly("S1", "Ama\r\nMensah");
+        assertThat(reader.next()).containsExactly("S2", "Kofi");
+        assertThat(reader.recordLine()).isEqualTo(4);
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    void loneCarriageReturnIsPartOfTheField() throws IOException {
+        assertThat(readAll("S1,Ama\rMensah\n")).containsExactly(List.of("S1", "Ama\rMensah"));
+    }
+
+    @Test
+    void byteOrderMarkIsSkippedOnlyAtTheStart() throws IOException {
+        assertThat(readAll("\uFEFFstudent_id,full_name\n\uFEFFS1,Ama\n")).containsExactly(
+                List.of("student_id", "full_name"),
+                List.of("\uFEFFS1", "Ama"));
+    }
+
+    @Test
+    void byteOrderMarkBeforeQuotedField() throws IOException {
+        assertThat(readAll("\uFEFF\"student_id\",full_name\n")).containsExactly(List.of("student_id", "full_name"));
+    }
+
+    @Test
+    void unterminatedQuoteFailsWithTheLineItStartedOn() throws IOException {
+        CsvReader reader = reader("S1,Ama\nS2,\"Kofi\nBoateng\n");
+
+        assertThat(reader.next()).containsExactly("S1", "Ama");
+        assertThatThrownBy(reader::next)
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("line 2");
+    }
+
+    @Test
+    void emptyInputHasNoRecords() throws IOException {
+        assertThat(reader("").next()).isNull();
+    }
+
+    private static CsvReader reader(String csv) {
+        return new CsvReader(new StringReader(csv));
+    }
+
+    private static List<List<String>> readAll(String csv) throws IOException {
+        CsvReader reader = reader(csv);
+        List<List<String>> records = new ArrayList<>();
+        List<String> record;
+        while ((record = reader.next()) != null) {
+            records.add(record);
+        }
+        return records;
+    }
+}
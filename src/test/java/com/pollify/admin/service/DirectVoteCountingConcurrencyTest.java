@@ -0,0 +1,96 @@
+package com.pollify.admin.service;
+
+import com.pollify.admin.dto.voting.CastVoteRequest;
+import com.pollify.admin.multitenancy.TenantContext;
+import com.pollify.admin.support.PostgresIntegrationTest;
+import com.pollify.admin.support.TenantFixtures;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Thousands of parallel votes, each voter submitting twice, with candidate.vote_count bumped
+ * by the atomic in-database increment: every accepted vote is counted exactly once.
+ */
+@SpringBootTest(properties = {
+        "pollify.voting.counters.mode=direct",
+        "pollify.voting.reconciliation.enabled=false",
+        "pollify.elections.auto-close.enabled=false"
+})
+class DirectVoteCountingConcurrencyTest extends PostgresIntegrationTest {
+
+    private static final int VOTERS = 3000;
+    private static final int THREADS = 32;
+
+    @Autowired
+    private VotingService votingService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TenantSchemaService tenantSchemaService;
+
+    private TenantFixtures fixtures;
+
+    @BeforeEach
+    void setUp() {
+        fixtures = new TenantFixtures(jdbcTemplate, tenantSchemaService);
+    }
+
+    @Test
+    void parallelVotesAreCountedExactlyOnce() throws Exception {
+        String schema = fixtures.createSchema();
+        UUID electionId = fixtures.activeElection(schema);
+        List<UUID> candidateIds = List.of(
+                fixtures.candidate(schema, electionId, "President"),
+                fixtures.candidate(schema, electionId, "President"));
+        List<UUID> voterIds = fixtures.voters(schema, VOTERS);
+
+        ExecutorService voters = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> votes = new ArrayList<>(VOTERS * 2);
+        for (int i = 0; i < voterIds.size(); i++) {
+            UUID voterId = voterIds.get(i);
+            UUID candidateId = candidateIds.get(i % candidateIds.size());
+            // The second submission of each voter races the first and must not be counted
+            for (int attempt = 0; attempt < 2; attempt++) {
+                votes.add(voters.submit(() -> TenantContext.callWithTenant(schema, () ->
+                        votingService.castVote(new CastVoteRequest(electionId, candidateId), voterId))));
+            }
+        }
+
+        int accepted = 0;
+        for (Future<?> vote : votes) {
+            try {
+                vote.get(2, TimeUnit.MINUTES);
+                accepted++;
+            } catch (ExecutionException e) {
+                // Duplicate ballot, rejected by the voter index or the ballot table
+            }
+        }
+        voters.shutdown();
+
+        assertThat(accepted).isEqualTo(VOTERS);
+        for (UUID candidateId : candidateIds) {
+            long cast = fixtures.queryForLong(
+                    "SELECT COUNT(*) FROM \"" + schema + "\".vote WHERE candidate_id = ?", candidateId);
+            long counted = fixtures.queryForLong(
+                    "SELECT vote_count FROM \"" + schema + "\".candidate WHERE id = ?", candidateId);
+            assertThat(cast).isEqualTo(VOTERS / candidateIds.size());
+            assertThat(counted).isEqualTo(cast);
+        }
+    }
+}
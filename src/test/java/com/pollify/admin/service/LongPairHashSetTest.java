@@ -0,0 +1,183 @@
+package com.pollify.admin.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Linear probing and backward-shift deletion of the voter index set. Chains are built on a
+ * 16-slot table by picking keys whose home slot is known, so collisions and wrap-around are deterministic.
+ */
+class LongPairHashSetTest {
+
+    // new LongPairHashSet(1) starts with a 16-slot table
+    private static final int CAPACITY = 16;
+    private static final int MASK = CAPACITY - 1;
+
+    private final Random random = new Random(42);
+
+    @Test
+    void addContainsRemove() {
+        LongPairHashSet set = new LongPairHashSet();
+        UUID key = UUID.randomUUID();
+
+        assertThat(set.add(key)).isTrue();
+        assertThat(set.add(key)).isFalse();
+        assertThat(set.contains(key)).isTrue();
+        assertThat(set.size()).isEqualTo(1);
+
+        assertThat(set.remove(key)).isTrue();
+        assertThat(set.remove(key)).isFalse();
+        assertThat(set.contains(key)).isFalse();
+        assertThat(set.size()).isZero();
+    }
+
+    @Test
+    void zeroKeyIsStoredOutsideTheTable() {
+        LongPairHashSet set = new LongPairHashSet();
+        UUID zero = new UUID(0, 0);
+
+        assertThat(set.contains(zero)).isFalse();
+        assertThat(set.add(zero)).isTrue();
+        assertThat(set.add(zero)).isFalse();
+        assertThat(set.contains(zero)).isTrue();
+        assertThat(set.size()).isEqualTo(1);
+
+        assertThat(set.remove(zero)).isTrue();
+        assertThat(set.contains(zero)).isFalse();
+        assertThat(set.size()).isZero();
+    }
+
+    @Test
+    void collidingKeysAreAllFound() {
+        LongPairHashSet set = new LongPairHashSet(1);
+        List<long[]> chain = keysWithHome(3, 5);
+        chain.forEach(key -> set.add(key[0], key[1]));
+
+        assertThat(set.capacity()).isEqualTo(CAPACITY);
+        chain.forEach(key -> assertThat(set.contains(key[0], key[1])).isTrue());
+    }
+
+    @Test
+    void removingHeadOfChainKeysLaterEntriesReachable() {
+        LongPairHashSet set = new LongPairHashSet(1);
+        List<long[]> chain = keysWithHome(3, 4);
+        chain.forEach(key -> set.add(key[0], key[1]));
+
+        set.remove(chain.get(0)[0], chain.get(0)[1]);
+
+        assertThat(set.contains(chain.get(0)[0], chain.get(0)[1])).isFalse();
+        chain.subList(1, 4).forEach(key -> assertThat(set.contains(key[0], key[1])).isTrue());
+        assertThat(set.size()).isEqualTo(3);
+    }
+
+    @Test
+    void removingMiddleOfChainDoesNotMoveEntriesBeforeTheirHome() {
+        LongPairHashSet set = new LongPairHashSet(1);
+        // Slots 3, 4 hold home-3 keys; slot 5 holds a key whose home is 5 and must stay there
+        List<long[]> homeThree = keysWithHome(3, 2);
+        long[] homeFive = keysWithHome(5, 1).get(0);
+        long[] lateHomeThree = keysWithHome(3, 3).get(2);
+        homeThree.forEach(key -> set.add(key[0], key[1]));
+        set.add(homeFive[0], homeFive[1]);
+        set.add(lateHomeThree[0], lateHomeThree[1]); // probes past slot 5 into slot 6
+
+        set.remove(homeThree.get(1)[0], homeThree.get(1)[1]);
+
+        assertThat(set.contains(homeThree.get(0)[0], homeThree.get(0)[1])).isTrue();
+        assertThat(set.contains(homeFive[0], homeFive[1])).isTrue();
+        assertThat(set.contains(lateHomeThree[0], lateHomeThree[1])).isTrue();
+        assertThat(set.size()).isEqualTo(3);
+    }
+
+    @Test
+    void chainWrappingPastTheTableEndSurvivesDeletion() {
+        LongPairHashSet set = new LongPairHashSet(1);
+        // Home-15 keys occupy slots 15, 0, 1; the home-0 key is pushed to slot 2
+        List<long[]> wrapping = keysWithHome(MASK, 3);
+        long[] homeZero = keysWithHome(0, 1).get(0);
+        wrapping.forEach(key -> set.add(key[0], key[1]));
+        set.add(homeZero[0], homeZero[1]);
+
+        set.remove(wrapping.get(0)[0], wrapping.get(0)[1]);
+
+        assertThat(set.capacity()).isEqualTo(CAPACITY);
+        wrapping.subList(1, 3).forEach(key -> assertThat(set.contains(key[0], key[1])).isTrue());
+        assertThat(set.contains(homeZero[0], homeZero[1])).isTrue();
+
+        // Removing the rest one by one must never strand the home-0 key
+        set.remove(wrapping.get(1)[0], wrapping.get(1)[1]);
+        assertThat(set.contains(homeZero[0], homeZero[1])).isTrue();
+        set.remove(wrapping.get(2)[0], wrapping.get(2)[1]);
+        assertThat(set.contains(homeZero[0], homeZero[1])).isTrue();
+        assertThat(set.size()).isEqualTo(1);
+    }
+
+    @Test
+    void resizeKeepsEveryKey() {
+        LongPairHashSet set = new LongPairHashSet();
+        List<UUID> keys = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            UUID key = UUID.randomUUID();
+            keys.add(key);
+            set.add(key);
+        }
+
+        assertThat(set.size()).isEqualTo(1_000);
+        assertThat(set.capacity()).isGreaterThanOrEqualTo((int) (1_000 / 0.7f));
+        keys.forEach(key -> assertThat(set.contains(key)).isTrue());
+    }
+
+    @Test
+    void matchesHashSetUnderRandomAddsAndRemoves() {
+        LongPairHashSet set = new LongPairHashSet();
+        Set<UUID> expected = new HashSet<>();
+        // A small key space forces long probe chains and frequent deletions inside them
+        List<UUID> keySpace = new ArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            keySpace.add(new UUID(random.nextInt(8), random.nextInt(8) + i * 8L));
+        }
+
+        for (int i = 0; i < 20_000; i++) {
+            UUID key = keySpace.get(random.nextInt(keySpace.size()));
+            if (random.nextBoolean()) {
+                assertThat(set.add(key)).isEqualTo(expected.add(key));
+            } else {
+                assertThat(set.remove(key)).isEqualTo(expected.remove(key));
+            }
+            assertThat(set.size()).isEqualTo(expected.size());
+        }
+        keySpace.forEach(key -> assertThat(set.contains(key)).isEqualTo(expected.contains(key)));
+    }
+
+    /**
+     * Random non-zero keys whose home slot in a 16-slot table is the given one
+     */
+    private List<long[]> keysWithHome(int home, int count) {
+        List<long[]> keys = new ArrayList<>();
+        while (keys.size() < count) {
+            long high = random.nextLong();
+            long low = random.nextLong();
+            if (homeSlot(high, low) == home) {
+                keys.add(new long[] {high, low});
+            }
+        }
+        return keys;
+    }
+
+    // Mirrors LongPairHashSet#indexOf
+    private static int homeSlot(long high, long low) {
+        long hash = high * 0x9E3779B97F4A7C15L ^ low;
+        hash ^= hash >>> 32;
+        hash *= 0xBF58476D1CE4E5B9L;
+        hash ^= hash >>> 29;
+        return (int) hash & MASK;
+    }
+}
@@ -0,0 +1,128 @@
+package com.pollify.admin.service;
+
+import com.pollify.admin.security.JwtTokenProvider;
+import com.pollify.admin.support.PostgresIntegrationTest;
+import com.pollify.admin.support.TenantFixtures;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Type;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Live results published in broker relay mode reach a STOMP client through the embedded
+ * Artemis broker, i.e. the path every node of a multi-node deployment relies on.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("embedded-broker")
+class ResultsBrokerRelayIntegrationTest extends PostgresIntegrationTest {
+
+    private static final int STOMP_PORT = freePort();
+
+    @DynamicPropertySource
+    static void broker(DynamicPropertyRegistry registry) {
+        registry.add("pollify.websocket.broker.embedded.port", () -> STOMP_PORT);
+        registry.add("pollify.websocket.broker.relay.port", () -> STOMP_PORT);
+    }
+
+    @Value("${local.server.port}")
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TenantSchemaService tenantSchemaService;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private WebSocketService webSocketService;
+
+    private WebSocketStompClient stompClient;
+
+    @AfterEach
+    void stopClient() {
+        if (stompClient != null) {
+            stompClient.stop();
+        }
+    }
+
+    @Test
+    void broadcastReachesSubscriberThroughRelay() throws Exception {
+        TenantFixtures fixtures = new TenantFixtures(jdbcTemplate, tenantSchemaService);
+        String schema = fixtures.createSchema();
+        UUID electionId = fixtures.activeElection(schema);
+        fixtures.candidate(schema, electionId, "President");
+
+        StompSession session = connect(jwtTokenProvider.generateToken(
+                UUID.randomUUID().toString(), "admin@example.edu", schema, "TENANT_ADMIN"));
+
+        BlockingQueue<String> received = new LinkedBlockingQueue<>();
+        session.subscribe("/topic/" + schema + "/election/" + electionId + "/results", new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return byte[].class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                received.add(new String((byte[]) payload, StandardCharsets.UTF_8));
+            }
+        });
+
+        // The relay registers the subscription with the broker asynchronously; publish until it lands
+        String message = null;
+        for (int attempt = 0; attempt < 20 && message == null; attempt++) {
+            webSocketService.broadcastElectionResults(schema, electionId);
+            message = received.poll(500, TimeUnit.MILLISECONDS);
+        }
+
+        assertThat(message).isNotNull().contains(electionId.toString());
+    }
+
+    private StompSession connect(String token) throws Exception {
+        stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        StompHeaders connectHeaders = new StompHeaders();
+        connectHeaders.add("Authorization", "Bearer " + token);
+        return stompClient.connectAsync(
+                        "ws://localhost:" + port + "/ws/websocket",
+                        new WebSocketHttpHeaders(),
+                        connectHeaders,
+                        new StompSessionHandlerAdapter() {
+                        })
+                .get(10, TimeUnit.SECONDS);
+    }
+
+    private static int freePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.pollify.admin.service;
+
+import com.pollify.admin.dto.election.VoteReconciliationReport;
+import com.pollify.admin.dto.voting.CastVoteRequest;
+import com.pollify.admin.multitenancy.TenantContext;
+import com.pollify.admin.support.PostgresIntegrationTest;
+import com.pollify.admin.support.TenantFixtures;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Thousands of parallel votes on one candidate with sharded counters, while reconciliation
+ * runs continuously: no vote may be lost or counted twice.
+ */
+@SpringBootTest(properties = {
+        "pollify.voting.counters.mode=sharded",
+        "pollify.voting.reconciliation.enabled=false",
+        "pollify.elections.auto-close.enabled=false"
+})
+class ShardedVoteCountingConcurrencyTest extends PostgresIntegrationTest {
+
+    private static final int VOTERS = 3000;
+    private static final int THREADS = 32;
+
+    @Autowired
+    private VotingService votingService;
+
+    @Autowired
+    private VoteReconciliationService reconciliationService;
+
+    @Autowired
+    private VoteCounterRegistry voteCounterRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TenantSchemaService tenantSchemaService;
+
+    private TenantFixtures fixtures;
+
+    @BeforeEach
+    void setUp() {
+        fixtures = new TenantFixtures(jdbcTemplate, tenantSchemaService);
+    }
+
+    @Test
+    void parallelVotesAreCountedExactlyOnceWhileReconciling() throws Exception {
+        String schema = fixtures.createSchema();
+        UUID electionId = fixtures.activeElection(schema);
+        UUID candidateId = fixtures.candidate(schema, electionId, "President");
+        List<UUID> voterIds = fixtures.voters(schema, VOTERS);
+
+        AtomicBoolean voting = new AtomicBoolean(true);
+        ExecutorService reconciler = Executors.newSingleThreadExecutor();
+        Future<Integer> reconciliations = reconciler.submit(() -> {
+            int runs = 0;
+            while (voting.get()) {
+                TenantContext.callWithTenant(schema, () -> reconciliationService.reconcileElection(electionId));
+                runs++;
+            }
+            return runs;
+        });
+
+        ExecutorService voters = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> votes = new ArrayList<>(VOTERS);
+        for (UUID voterId : voterIds) {
+            votes.add(voters.submit(() -> TenantContext.callWithTenant(schema, () ->
+                    votingService.castVote(new CastVoteRequest(electionId, candidateId), voterId))));
+        }
+        for (Future<?> vote : votes) {
+            vote.get(2, TimeUnit.MINUTES);
+        }
+        voters.shutdown();
+
+        voting.set(false);
+        assertThat(reconciliations.get(1, TimeUnit.MINUTES)).isPositive();
+        reconciler.shutdown();
+
+        assertThat(fixtures.queryForLong(
+                "SELECT COUNT(*) FROM \"" + schema + "\".vote WHERE candidate_id = ?", candidateId))
+                .isEqualTo(VOTERS);
+
+        // A scheduled flush may be running, in which case this one is skipped; wait for it to land
+        long recorded = 0;
+        for (int attempt = 0; attempt < 50 && recorded != VOTERS; attempt++) {
+            voteCounterRegistry.flush();
+            recorded = fixtures.queryForLong(
+                    "SELECT vote_count FROM \"" + schema + "\".candidate WHERE id = ?", candidateId);
+            if (recorded != VOTERS) {
+                Thread.sleep(100);
+            }
+        }
+        assertThat(recorded).isEqualTo(VOTERS);
+
+        VoteReconciliationReport report =
+                TenantContext.callWithTenant(schema, () -> reconciliationService.reconcileElection(electionId));
+        assertThat(report.getTotalVotes()).isEqualTo(VOTERS);
+        assertThat(report.getCorrections()).isEmpty();
+    }
+}
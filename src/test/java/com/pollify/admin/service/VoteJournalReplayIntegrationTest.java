@@ -0,0 +1,98 @@
+package com.pollify.admin.service;
+
+import com.pollify.admin.entity.tenant.Vote;
+import com.pollify.admin.multitenancy.TenantContext;
+import com.pollify.admin.repository.tenant.VoteBatchRepository;
+import com.pollify.admin.support.PostgresIntegrationTest;
+import com.pollify.admin.support.TenantFixtures;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A ballot split across write-behind batches whose first part committed before a crash
+ * must be completed when the journal is replayed, and must not let a second ballot in.
+ */
+@SpringBootTest(properties = "pollify.elections.auto-close.enabled=false")
+class VoteJournalReplayIntegrationTest extends PostgresIntegrationTest {
+
+    // Sub-millisecond part that an epoch-millis journal would lose
+    private static final OffsetDateTime CAST_AT = OffsetDateTime.of(2026, 3, 2, 9, 15, 30, 123_456_000, ZoneOffset.UTC);
+
+    @TempDir
+    Path journalDir;
+
+    @Autowired
+    private VoteBatchRepository voteBatchRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TenantSchemaService tenantSchemaService;
+
+    @Test
+    void replayCompletesBallotWhoseFirstBatchCommitted() throws Exception {
+        TenantFixtures fixtures = new TenantFixtures(jdbcTemplate, tenantSchemaService);
+        String schema = fixtures.createSchema();
+        UUID electionId = fixtures.activeElection(schema);
+        UUID president = fixtures.candidate(schema, electionId, "President");
+        UUID secretary = fixtures.candidate(schema, electionId, "Secretary");
+        UUID voterId = fixtures.voters(schema, 1).get(0);
+
+        List<Vote> ballot = List.of(
+                vote(voterId, electionId, president, "President", CAST_AT),
+                vote(voterId, electionId, secretary, "Secretary", CAST_AT));
+        Path file = journalDir.resolve(schema + ".journal");
+        try (VoteJournal journal = new VoteJournal(file, false)) {
+            journal.append(ballot);
+        }
+
+        // The first batch held only the first selection, then the node went down
+        assertThat(insert(schema, ballot.subList(0, 1))).containsExactly(president);
+
+        List<Vote> replayed;
+        try (VoteJournal journal = new VoteJournal(file, false)) {
+            replayed = journal.readAll();
+        }
+        assertThat(replayed).extracting(Vote::getVotedAt).containsOnly(CAST_AT);
+        assertThat(insert(schema, replayed)).containsExactly(secretary);
+
+        // A later ballot from the same voter is still refused
+        assertThat(insert(schema, List.of(
+                vote(voterId, electionId, secretary, "Secretary", CAST_AT.plusSeconds(5))))).isEmpty();
+
+        assertThat(fixtures.queryForLong(
+                "SELECT COUNT(*) FROM \"" + schema + "\".vote WHERE voter_id = ?", voterId)).isEqualTo(2);
+    }
+
+    private List<UUID> insert(String schema, List<Vote> votes) {
+        return TenantContext.callWithTenant(schema, () ->
+                transactionTemplate.execute(status -> voteBatchRepository.insertIgnoringDuplicates(votes)));
+    }
+
+    private static Vote vote(UUID voterId, UUID electionId, UUID candidateId, String position, OffsetDateTime votedAt) {
+        Vote vote = new Vote();
+        vote.setId(UUID.randomUUID());
+        vote.setVoterId(voterId);
+        vote.setElectionId(electionId);
+        vote.setCandidateId(candidateId);
+        vote.setPosition(position);
+        vote.setVotedAt(votedAt);
+        return vote;
+    }
+}
@@ -0,0 +1,93 @@
+package com.pollify.admin.support;
+
+import com.pollify.admin.service.TenantSchemaService;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Creates tenant schemas and rows directly with SQL, so tests only exercise the code under test
+ */
+public final class TenantFixtures {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TenantSchemaService tenantSchemaService;
+
+    public TenantFixtures(JdbcTemplate jdbcTemplate, TenantSchemaService tenantSchemaService) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.tenantSchemaService = tenantSchemaService;
+    }
+
+    public String createSchema() {
+        String schema = "t_" + UUID.randomUUID().toString().replace("-", "").substring(0, 12);
+        tenantSchemaService.createTenantSchema(schema);
+        return schema;
+    }
+
+    /**
+     * Registers the schema as an ACTIVE code school in master.pollify_tenant, with tenant ID = schema
+     */
+    public void activeCodeSchool(String schema, String schoolCode) {
+        jdbcTemplate.update(
+                "INSERT INTO master.pollify_tenant (tenant_id, tenant_uuid, university_name, university_email, "
+                        + "school_type, school_code, database_schema, tenant_status, admin_email, created_at) "
+                        + "VALUES (?, ?, 'Test University', ?, 'CODE_SCHOOL', ?, ?, 'ACTIVE', ?, now())",
+                schema, UUID.randomUUID(), schema + "@university.example.edu", schoolCode, schema,
+                "admin@" + schema + ".example.edu");
+    }
+
+    /**
+     * An ACTIVE election that opened an hour ago and closes in an hour
+     */
+    public UUID activeElection(String schema) {
+        UUID electionId = UUID.randomUUID();
+        OffsetDateTime now = OffsetDateTime.now();
+        jdbcTemplate.update(
+                "INSERT INTO \"" + schema + "\".election (id, title, election_status, start_time, end_time, created_by) "
+                        + "VALUES (?, 'Test election', 'ACTIVE', ?, ?, ?)",
+                electionId, Timestamp.from(now.minusHours(1).toInstant()),
+                Timestamp.from(now.plusHours(1).toInstant()), UUID.randomUUID());
+        return electionId;
+    }
+
+    public UUID candidate(String schema, UUID electionId, String position) {
+        UUID candidateId = UUID.randomUUID();
+        jdbcTemplate.update(
+                "INSERT INTO \"" + schema + "\".candidate (id, election_id, full_name, position) VALUES (?, ?, ?, ?)",
+                candidateId, electionId, "Candidate " + candidateId, position);
+        return candidateId;
+    }
+
+    public UUID voter(String schema, String email, String passwordHash) {
+        UUID voterId = UUID.randomUUID();
+        jdbcTemplate.update(
+                "INSERT INTO \"" + schema + "\".voter (id, email, password_hash, first_name, last_name) "
+                        + "VALUES (?, ?, ?, 'Test', 'Voter')",
+                voterId, email, passwordHash);
+        return voterId;
+    }
+
+    public List<UUID> voters(String schema, int count) {
+        List<UUID> voterIds = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            voterIds.add(UUID.randomUUID());
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO \"" + schema + "\".voter (id, email, password_hash, first_name, last_name) "
+                        + "VALUES (?, ?, 'x', 'Test', 'Voter')",
+                voterIds, 1000, (ps, voterId) -> {
+                    ps.setObject(1, voterId);
+                    ps.setString(2, voterId + "@example.edu");
+                });
+        return voterIds;
+    }
+
+    public long queryForLong(String sql, Object... args) {
+        Long value = jdbcTemplate.queryForObject(sql, Long.class, args);
+        return value != null ? value : 0L;
+    }
+}